@@ -1,12 +1,12 @@
 import axios from "axios";
 import { handleError } from "../../../Helpers/ErrorHandler"
-import { APP_URL } from "../../types";
+import { APP_URL, getAllPages } from "../../types";
 import { NavigateFunction } from "react-router-dom";
 
 
 export const getLoanProducts = (navigate: NavigateFunction) => {
     try{
-        const data = axios.get(`${APP_URL}/admin/loan-product`)
+        const data = getAllPages(`${APP_URL}/admin/loan-product`)
 
         return data;
 
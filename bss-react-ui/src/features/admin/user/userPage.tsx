@@ -1,10 +1,9 @@
-import axios from 'axios'
 import { useEffect, useState } from 'react'
 import { UserDto } from './types';
 import { Link } from 'react-router-dom';
 import $ from 'jquery';
 import 'datatables.net';
-import { APP_URL } from '../../types';
+import { APP_URL, getAllPages } from '../../types';
 import { PersonAdd } from '@mui/icons-material';
 import { CircularProgress } from '@mui/material';
 
@@ -17,7 +16,7 @@ const UserPage = () => {
         const fetchData = async () => {
           setIsLoading(true);
           try {
-            let response = await axios.get(`${APP_URL}/user`);
+            let response = await getAllPages<UserDto>(`${APP_URL}/user`);
             setUsers(response?.data)
             setIsLoading(false);
           } catch (error) {
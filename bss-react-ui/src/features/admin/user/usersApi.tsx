@@ -1,5 +1,5 @@
 import axios from "axios"
-import { APP_URL } from "../../types"
+import { APP_URL, getAllPages } from "../../types"
 
 import { handleError } from "../../../Helpers/ErrorHandler";
 import { NavigateFunction } from "react-router-dom";
@@ -36,7 +36,7 @@ export const getUser = (id: string, navigate: NavigateFunction) => {
 
 export const getUsers = (navigate: NavigateFunction) => {
     try{
-        const data = axios.get(`${APP_URL}/user`);
+        const data = getAllPages(`${APP_URL}/user`);
         return data;
 
     }catch(error){
@@ -1,10 +1,9 @@
-import axios from 'axios'
 import { useEffect, useState } from 'react'
 import { Customer } from './types';
 import { Link, useNavigate } from 'react-router-dom';
 import $ from 'jquery';
 import 'datatables.net';
-import { APP_URL } from '../types';
+import { APP_URL, getPage } from '../types';
 import { handleError } from '../../Helpers/ErrorHandler';
 import { CircularProgress } from '@mui/material';
 
@@ -15,12 +14,16 @@ const UserPage = () => {
     const navigate = useNavigate();
     const [isLoading, setIsLoading] = useState(false);
     
+    const [nextCursor, setNextCursor] = useState<string>();
+    const [isLoadingMore, setIsLoadingMore] = useState(false);
+    
     useEffect(() => {
         const fetchData = async () => {
           setIsLoading(true);
           try {
-            let response = await axios.get(`${APP_URL}/customer`);
-            setCustomers(response?.data)
+            const response = await getPage<Customer>(`${APP_URL}/customer`);
+            setCustomers(response.data);
+            setNextCursor(response.next);
             setIsLoading(false);
           } catch (error) {
             handleError(error, navigate);
@@ -31,6 +34,24 @@ const UserPage = () => {
         fetchData();
       }, []);
 
+      // Pages are fetched on demand; the table only searches and sorts what has been loaded
+      const loadMore = async () => {
+        setIsLoadingMore(true);
+        try {
+          const response = await getPage<Customer>(`${APP_URL}/customer`, nextCursor);
+          // DataTables moves rows out of the DOM; give the table back to React before it renders the new rows
+          if ($.fn.dataTable.isDataTable('#users-table')) {
+            $('#users-table').DataTable().destroy();
+          }
+          setCustomers([...(customers ?? []), ...response.data]);
+          setNextCursor(response.next);
+        } catch (error) {
+          handleError(error, navigate);
+        } finally {
+          setIsLoadingMore(false);
+        }
+      };
+
       useEffect(() => {
         if (customers) {
           $(function ($){
@@ -128,6 +149,17 @@ const UserPage = () => {
                   ))}
                 </tbody>
               </table>
+              {nextCursor && (
+                <div className='flex justify-center mt-3'>
+                  <button
+                    onClick={loadMore}
+                    disabled={isLoadingMore}
+                    className="text-[12px] bg-primary-blue hover:bg-primary text-white font-bold p-1 px-3 rounded-lg"
+                  >
+                    {isLoadingMore ? 'Loading...' : 'Load more'}
+                  </button>
+                </div>
+              )}
             </div>
           </div>
         )
@@ -1,4 +1,3 @@
-import axios from 'axios'
 import { useEffect, useState } from 'react'
 import { Link, useLocation, useNavigate } from 'react-router-dom';
 import $ from 'jquery';
@@ -7,7 +6,7 @@ import { GroupAdd } from '@mui/icons-material';
 import { Group } from './types';
 import { handleError } from '../../Helpers/ErrorHandler';
 import { CircularProgress } from '@mui/material';
-import { APP_URL } from '../types';
+import { APP_URL, getAllPages } from '../types';
 
 const GroupPage = () => {
     const [groups, setGroups] = useState<Group[]>();
@@ -21,7 +20,7 @@ const GroupPage = () => {
         const fetchData = async () => {
           setIsLoading(true);
           try {
-            let response = await axios.get(`${APP_URL}/group`);
+            let response = await getAllPages<Group>(`${APP_URL}/group`);
             setGroups(response?.data)
             setIsLoading(false);
           } catch (error) {
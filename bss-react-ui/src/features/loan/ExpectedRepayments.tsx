@@ -67,9 +67,9 @@ const ExpectedRepayments = () => {
         axios.put(
             `${APP_URL}/loan-application/repay`
         ).then(response => {
-            if(response?.status === 200){
+            if(response?.status === 200 || response?.status === 202){
                 setIsPaying(false);                
-                toast.success("Repayment done successfully");
+                toast.success("Repayment job submitted");
                 window.location.reload();
                 
             }
@@ -1,10 +1,9 @@
-import axios from 'axios'
 import { useEffect, useState } from 'react'
 import { Link, useNavigate } from 'react-router-dom';
 import $ from 'jquery';
 import 'datatables.net';
 import { LoanApplication } from './types';
-import { APP_URL } from '../types';
+import { APP_URL, getPage } from '../types';
 import { handleError } from '../../Helpers/ErrorHandler';
 import { CircularProgress } from '@mui/material';
 
@@ -16,12 +15,16 @@ const LoansPage = () => {
     const navigate = useNavigate();
     const [isLoading, setIsLoading] = useState(false);
     
+    const [nextCursor, setNextCursor] = useState<string>();
+    const [isLoadingMore, setIsLoadingMore] = useState(false);
+    
     useEffect(() => {
         const fetchData = async () => {
           setIsLoading(true);
           try {
-            const response = await axios.get(`${APP_URL}/loan-application`);
-            setLoans(response?.data)
+            const response = await getPage<LoanApplication>(`${APP_URL}/loan-application`);
+            setLoans(response.data);
+            setNextCursor(response.next);
             setIsLoading(false);
           } catch (error) {
             handleError(error, navigate);
@@ -31,6 +34,24 @@ const LoansPage = () => {
         fetchData();
       }, []);
 
+      // Pages are fetched on demand; the table only searches and sorts what has been loaded
+      const loadMore = async () => {
+        setIsLoadingMore(true);
+        try {
+          const response = await getPage<LoanApplication>(`${APP_URL}/loan-application`, nextCursor);
+          // DataTables moves rows out of the DOM; give the table back to React before it renders the new rows
+          if ($.fn.dataTable.isDataTable('#users-table')) {
+            $('#users-table').DataTable().destroy();
+          }
+          setLoans([...(loans ?? []), ...response.data]);
+          setNextCursor(response.next);
+        } catch (error) {
+          handleError(error, navigate);
+        } finally {
+          setIsLoadingMore(false);
+        }
+      };
+
       useEffect(() => {
         if (loans) {
           $(function ($){
@@ -131,6 +152,17 @@ const LoansPage = () => {
                   ))}
                 </tbody>
               </table>
+              {nextCursor && (
+                <div className='flex justify-center mt-3'>
+                  <button
+                    onClick={loadMore}
+                    disabled={isLoadingMore}
+                    className="text-[12px] bg-primary-blue hover:bg-primary text-white font-bold p-1 px-3 rounded-lg"
+                  >
+                    {isLoadingMore ? 'Loading...' : 'Load more'}
+                  </button>
+                </div>
+              )}
             </div>
           </div>
         )
@@ -4,7 +4,7 @@ import { useNavigate, useParams } from 'react-router-dom';
 import axios from 'axios';
 import { Account, Customer, capitalizeFirstLetter } from '../customer/types';
 import { LoanProduct } from '../admin/loan_product/types';
-import {APP_URL, numberToNairaWords} from '../types';
+import {APP_URL, getAllPages, numberToNairaWords} from '../types';
 import { useAuth } from '../../Context/useAuth';
 import { Group } from '../group/types';
 import { getGroups } from '../group/groupApi';
@@ -53,7 +53,7 @@ const NewLoanApplication = () => {
           }
         })
 
-        const productsResponse = await axios.get(`${APP_URL}/admin/loan-product`);
+        const productsResponse = await getAllPages<LoanProduct>(`${APP_URL}/admin/loan-product`);
         setLoanProducts(productsResponse.data);
       } catch (error) {
         handleError(error, navigate);
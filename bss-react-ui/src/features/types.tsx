@@ -1,3 +1,5 @@
+import axios from "axios";
+
 export const formatCurrency = (amount: number) => {
     // Assuming amount is a numeric value
     const formatter = new Intl.NumberFormat('en-US', {
@@ -36,6 +38,28 @@ export const formatCurrency = (amount: number) => {
 // export const APP_URL = 'http://localhost:8080/api/v1';
 export const APP_URL = 'http://141.98.152.84:8080/api/v1';
 
+// List endpoints return one page by id and put the cursor for the next page in X-Next-Cursor
+export const PAGE_LIMIT = 500;
+export const LIST_PAGE_SIZE = 100;
+
+// One page of a list and the cursor of the page after it (undefined on the last page)
+export const getPage = async <T = any,>(url: string, after?: string, limit: number = LIST_PAGE_SIZE) => {
+    const response = await axios.get<T[]>(url, { params: { limit: limit, after: after } });
+    return { data: response.data, next: response.headers['x-next-cursor'] as string | undefined };
+};
+
+// Every page; only for short lookup lists such as products, groups and users
+export const getAllPages = async <T = any,>(url: string) => {
+    const data: T[] = [];
+    let after: string | undefined;
+    do {
+        const response = await axios.get<T[]>(url, { params: { limit: PAGE_LIMIT, after: after } });
+        data.push(...response.data);
+        after = response.headers['x-next-cursor'];
+    } while (after);
+    return { data: data };
+};
+
 
 export type MonthyReport = {
     month: number;
@@ -2,8 +2,10 @@ package com.hygatech.loan_processor;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class LoanProcessorApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,27 @@
+package com.hygatech.loan_processor.configurations;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hygatech.loan_processor.services.DashboardCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Bounded, short-lived caches for the dashboard reads. Writes clear them through
+     * {@link DashboardCacheService}; the TTL only bounds staleness from writes that bypass the services.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${loan.dashboard.cache.spec:maximumSize=500,expireAfterWrite=5m}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(DashboardCacheService.CACHES.toArray(String[]::new));
+        cacheManager.setCaffeine(Caffeine.from(spec).recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hygatech.loan_processor.configurations;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class RepaymentSweepConfig {
+
+    @Bean(name = "repaymentSweepExecutor")
+    public ThreadPoolTaskExecutor repaymentSweepExecutor(
+            @Value("${loan.repayment.sweep.pool-size:4}") int poolSize,
+            @Value("${loan.repayment.sweep.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("repayment-sweep-");
+        // Keep the pool bounded: when the queue is full the submitting thread runs the chunk itself
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs submitted repayment jobs one at a time; each job fans its chunks out to
+     * {@code repaymentSweepExecutor}.
+     */
+    @Bean(name = "repaymentJobExecutor")
+    public ThreadPoolTaskExecutor repaymentJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("repayment-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
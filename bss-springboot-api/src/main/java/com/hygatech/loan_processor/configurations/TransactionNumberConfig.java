@@ -0,0 +1,60 @@
+package com.hygatech.loan_processor.configurations;
+
+import com.hygatech.loan_processor.utils.GeneralUtils;
+import com.hygatech.loan_processor.utils.TransactionNumberGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Sets the node id of {@link GeneralUtils#generateTransactionNumber()}. Every instance writing to
+ * the same database needs its own node id: either a fixed {@code loan.transaction.node-id}, or,
+ * when that is unset, one leased at startup from the {@code transaction_nodes} counter in
+ * {@code id_allocator}. Leases cycle through the 1024 ids, so concurrent instances only share
+ * one after that many restarts in between.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class TransactionNumberConfig implements InitializingBean {
+    private static final String SEQUENCE_NAME = "transaction_nodes";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${loan.transaction.node-id:-1}")
+    private int nodeId;
+
+    @Override
+    public void afterPropertiesSet() {
+        int resolved = nodeId >= 0 ? nodeId : leaseNodeId();
+        GeneralUtils.configureTransactionNumbers(resolved);
+        log.info("Transaction numbers use node id {}{}", resolved, nodeId >= 0 ? "" : " (leased)");
+    }
+
+    private int leaseNodeId() {
+        // One connection for both statements: LAST_INSERT_ID(expr) is per connection
+        Long lease = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE id_allocator SET next_val = LAST_INSERT_ID(next_val + 1) WHERE sequence_name = ?")) {
+                update.setString(1, SEQUENCE_NAME);
+                if (update.executeUpdate() != 1) {
+                    throw new IllegalStateException("id_allocator has no " + SEQUENCE_NAME + " row; set loan.transaction.node-id");
+                }
+            }
+            try (Statement select = connection.createStatement();
+                 ResultSet result = select.executeQuery("SELECT LAST_INSERT_ID()")) {
+                result.next();
+                return result.getLong(1);
+            }
+        });
+        return (int) (lease % (TransactionNumberGenerator.MAX_NODE_ID + 1));
+    }
+}
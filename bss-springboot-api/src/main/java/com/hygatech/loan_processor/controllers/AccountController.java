@@ -1,5 +1,6 @@
 package com.hygatech.loan_processor.controllers;
 
+import com.hygatech.loan_processor.dtos.AccountBalanceDto;
 import com.hygatech.loan_processor.dtos.AccountDto;
 import com.hygatech.loan_processor.dtos.AccountRequestDto;
 import com.hygatech.loan_processor.dtos.CustomerDto;
@@ -10,10 +11,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.stream.Stream;
 
 @RestController
@@ -40,6 +43,18 @@ public class AccountController {
         return ResponseEntity.ok(service.find(accountId));
     }
 
+    @GetMapping("/{accountId}/balance")
+    @Operation(summary = "Get the balance of an account at the end of a day")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balance fetched"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    public ResponseEntity<AccountBalanceDto> balanceAsOf(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf){
+        return ResponseEntity.ok(service.balanceAsOf(accountId, asOf));
+    }
+
     @GetMapping("/customer/{id}")
     public ResponseEntity<Stream<AccountDto>> findByCustomer(@PathVariable Long id){
         return ResponseEntity.ok(service.findByCustomer(id));
@@ -0,0 +1,37 @@
+package com.hygatech.loan_processor.controllers;
+
+import com.hygatech.loan_processor.dtos.AccountStatementDto;
+import com.hygatech.loan_processor.services.AccountStatementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/account")
+@RequiredArgsConstructor
+@Tag(name = "Account Statement APIs", description = "Endpoints for account statements")
+public class AccountStatementController {
+    private final AccountStatementService service;
+
+    @GetMapping("/{id}/statement")
+    @Operation(summary = "Get a page of an account statement with running balance")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statement page fetched"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    public ResponseEntity<AccountStatementDto> statement(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit){
+        return ResponseEntity.ok(service.statement(id, from, to, cursor, limit));
+    }
+}
@@ -36,13 +36,14 @@ public class CustomerController {
     }
 
     @GetMapping
-    @Operation(summary = "get all customers")
+    @Operation(summary = "get all customers", description = "Pages by id, 50 per page unless limit is given (at most 500); pass X-Next-Cursor back as after for the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "2000", description = "Groups fetched")
 
     })
-    public ResponseEntity<Stream<CustomerDto>> all(){
-        return ResponseEntity.ok(service.all());
+    public ResponseEntity<Stream<CustomerDto>> all(@RequestParam(required = false) String after,
+                                                   @RequestParam(required = false) Integer limit){
+        return service.all(after, limit).toResponse();
     }
 
     @GetMapping("/{id}")
@@ -31,13 +31,14 @@ public class GroupController {
     }
 
     @GetMapping
-    @Operation(summary = "get all groups")
+    @Operation(summary = "get all groups", description = "Pages by id, 50 per page unless limit is given (at most 500); pass X-Next-Cursor back as after for the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Groups fetched")
 
     })
-    public ResponseEntity<Stream<GroupDto>> all(){
-        return ResponseEntity.ok(service.all());
+    public ResponseEntity<Stream<GroupDto>> all(@RequestParam(required = false) String after,
+                                                @RequestParam(required = false) Integer limit){
+        return service.all(after, limit).toResponse();
     }
 
     @GetMapping("/{id}")
@@ -1,7 +1,8 @@
 package com.hygatech.loan_processor.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hygatech.loan_processor.dtos.*;
-import com.hygatech.loan_processor.entities.LoanApplication;
 import com.hygatech.loan_processor.entities.LoanRepayment;
 import com.hygatech.loan_processor.services.implementations.LoanApplicationServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,9 +12,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.stream.Stream;
 
 @RestController
@@ -23,6 +29,7 @@ import java.util.stream.Stream;
 @Tag(name = "Customer Loans APIs", description = "Endpoints for handling group management")
 public class LoanApplicationController {
     private final LoanApplicationServiceImpl service;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create A Loan application")
@@ -59,13 +66,14 @@ public class LoanApplicationController {
     }
 
     @GetMapping
-    @Operation(summary = "get all loans")
+    @Operation(summary = "get all loans", description = "Pages by id, 50 per page unless limit is given (at most 500); pass X-Next-Cursor back as after for the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "loans fetched")
 
     })
-    public ResponseEntity<Stream<LoanApplicationDto>> all(){
-        return ResponseEntity.ok(service.all());
+    public ResponseEntity<Stream<LoanApplicationDto>> all(@RequestParam(required = false) String after,
+                                                          @RequestParam(required = false) Integer limit){
+        return service.all(after, limit).toResponse();
     }
 
     @GetMapping("/{id}")
@@ -105,20 +113,52 @@ public class LoanApplicationController {
             @ApiResponse(responseCode = "200", description = "loans fetched")
 
     })
-    public ResponseEntity<Stream<LoanRepayment>> getExpected(){
-
-        return ResponseEntity.ok(service.getExpectedRepayments());
+    public ResponseEntity<StreamingResponseBody> getExpected(){
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                service.getExpectedRepayments(repayment -> {
+                    try {
+                        generator.writeObject(repayment);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @PutMapping("/repay")
-    @Operation(summary = "Pay all expected loans")
+    @Operation(summary = "Submit a repayment job for all expected loans")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "repayment job submitted")
+
+    })
+    public ResponseEntity<RepaymentJobDto> payExpected(){
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(service.repayLoan());
+    }
+
+    @GetMapping("/repay/jobs/{jobId}")
+    @Operation(summary = "Get the progress of a repayment job")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "loans repaid")
+            @ApiResponse(responseCode = "200", description = "repayment job fetched")
 
     })
-    public ResponseEntity<Stream<LoanRepayment>> payExpected(){
+    public ResponseEntity<RepaymentJobDto> repaymentJob(@PathVariable Long jobId){
+        return ResponseEntity.ok(service.getRepaymentJob(jobId));
+    }
 
-        return ResponseEntity.ok(service.repayLoan());
+    @PostMapping("/repay/jobs/{jobId}/resume")
+    @Operation(summary = "Retry the failed chunks of a repayment job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "repayment job resumed")
+
+    })
+    public ResponseEntity<RepaymentJobDto> resumeRepaymentJob(@PathVariable Long jobId){
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(service.resumeRepaymentJob(jobId));
     }
 
     @GetMapping("/top/{number}")
@@ -127,7 +167,7 @@ public class LoanApplicationController {
             @ApiResponse(responseCode = "200", description = "loans fetched")
 
     })
-    public ResponseEntity<Stream<CustomerLoanCountDTO>> topLoans(@PathVariable Integer number){
+    public ResponseEntity<List<CustomerLoanCountDTO>> topLoans(@PathVariable Integer number){
         return ResponseEntity.ok(service.getTopCustomersWithHighestLoans(number));
     }
 
@@ -137,7 +177,7 @@ public class LoanApplicationController {
             @ApiResponse(responseCode = "200", description = "loans fetched")
 
     })
-    public ResponseEntity<Stream<CustomerTotalApprovedDTO>> topLoanAmounts(@PathVariable Integer number){
+    public ResponseEntity<List<CustomerTotalApprovedDTO>> topLoanAmounts(@PathVariable Integer number){
         return ResponseEntity.ok(service.getTopCustomersByTotalApproved(number));
     }
 
@@ -147,7 +187,7 @@ public class LoanApplicationController {
             @ApiResponse(responseCode = "200", description = "loans fetched")
 
     })
-    public ResponseEntity<Stream<LoanApplication>> getRecentLoans(@PathVariable Integer number){
+    public ResponseEntity<List<LoanApplicationDto>> getRecentLoans(@PathVariable Integer number){
         return ResponseEntity.ok(service.getMostRecentApplications(number));
     }
 
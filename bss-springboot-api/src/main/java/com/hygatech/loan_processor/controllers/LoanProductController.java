@@ -32,13 +32,14 @@ public class LoanProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(service.create(productDto));
     }
     @GetMapping
-    @Operation(summary = "get all products")
+    @Operation(summary = "get all products", description = "Pages by id, 50 per page unless limit is given (at most 500); pass X-Next-Cursor back as after for the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "products fetched")
 
     })
-    public ResponseEntity<Stream<LoanProductDto>> all(){
-        return ResponseEntity.ok(service.all());
+    public ResponseEntity<Stream<LoanProductDto>> all(@RequestParam(required = false) String after,
+                                                      @RequestParam(required = false) Integer limit){
+        return service.all(after, limit).toResponse();
     }
 
     @GetMapping("/{id}")
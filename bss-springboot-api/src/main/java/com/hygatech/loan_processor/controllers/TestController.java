@@ -5,12 +5,13 @@ import com.hygatech.loan_processor.repositories.AccountRepository;
 import com.hygatech.loan_processor.repositories.CustomerRepository;
 import com.hygatech.loan_processor.repositories.LoanApplicationRepository;
 import com.hygatech.loan_processor.repositories.LoanRepaymentRepository;
+import com.hygatech.loan_processor.services.AccountNumberAllocator;
+import com.hygatech.loan_processor.services.helpers.RepaymentScheduleCalculator;
+import com.hygatech.loan_processor.utils.Money;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -24,6 +25,8 @@ public class TestController {
     private final LoanApplicationRepository applicationRepository;
     private final LoanRepaymentRepository repaymentRepository;
     private final AccountRepository accountRepository;
+    private final RepaymentScheduleCalculator scheduleCalculator;
+    private final AccountNumberAllocator accountNumberAllocator;
 
     @GetMapping("/savings")
     public ResponseEntity<List<Account>> generateCustomerAccounts() {
@@ -32,6 +35,7 @@ public class TestController {
 
         customers.forEach(customer -> {
             Account account = new Account();
+            account.setAccountNumber(accountNumberAllocator.next());
             account.setCustomer(customer);
             account.setAccountStatus(AccountStatus.ACTIVE);
 
@@ -42,7 +46,7 @@ public class TestController {
             }
 
             account.setName("Savings");
-            account.setBalance(BigDecimal.ZERO);
+            account.setBalance(Money.ZERO);
             account.setLoanCycle(0);
             accounts.add(account);
         });
@@ -57,11 +61,12 @@ public class TestController {
 
         for (LoanApplication loan : loanApplications) {
             Account account = new Account();
+            account.setAccountNumber(accountNumberAllocator.next());
             account.setCustomer(loan.getCustomer());
             account.setAccountStatus(AccountStatus.ACTIVE);
             account.setAccountType(AccountType.LOAN);
             account.setName(loan.getLoanProduct().getName());
-            account.setBalance(BigDecimal.ZERO);
+            account.setBalance(Money.ZERO);
             account.setLoanCycle(1);
             account.setLoanId(loan.getId());
 
@@ -71,11 +76,12 @@ public class TestController {
 
             if (collateralAccount.isEmpty()) {
                 Account newAccount = new Account();
+                newAccount.setAccountNumber(accountNumberAllocator.next());
                 newAccount.setCustomer(loan.getCustomer());
                 newAccount.setAccountStatus(AccountStatus.ACTIVE);
                 newAccount.setAccountType(AccountType.COLLATERAL_DEPOSIT);
                 newAccount.setName("Collateral Deposit");
-                newAccount.setBalance(loan.getCollateralDeposit());
+                newAccount.setBalance(Money.of(loan.getCollateralDeposit()));
                 newAccount.setLoanCycle(0);
                 accounts.add(newAccount);
             }
@@ -90,25 +96,12 @@ public class TestController {
     public ResponseEntity<String> generateAccountNumbers() {
         List<Account> accounts = repository.findAll();
         accounts.forEach(account -> {
-            account.setAccountNumber(generateAccountNumber());
+            account.setAccountNumber(accountNumberAllocator.next());
             repository.save(account);
         });
         return ResponseEntity.ok("Success");
     }
 
-    private String generateAccountNumber() {
-        long timestamp = System.currentTimeMillis();
-        int randomNumber = new Random().nextInt(999999);
-        String randomNumberStr = String.format("%06d", randomNumber);
-        String accountNumber = String.valueOf(timestamp) + randomNumberStr;
-
-        if (accountNumber.length() > 10) {
-            accountNumber = accountNumber.substring(accountNumber.length() - 9);
-        }
-
-        return "2" + accountNumber;
-    }
-
     @GetMapping("/fix/repayments")
     public ResponseEntity<String> fixRepayments() {
         List<LoanApplication> loanApplications = applicationRepository.findAll();
@@ -122,28 +115,12 @@ public class TestController {
     }
 
     private List<LoanRepayment> createRepayments(LoanApplication loanApplication, int numOfRepayments) {
-        BigDecimal approvedAmount = loanApplication.getAmountApproved();
-        int tenor = loanApplication.getTenorApproved();
-        BigDecimal tenorBig = BigDecimal.valueOf(tenor);
-
-        LoanProduct product = loanApplication.getLoanProduct();
-
-        BigDecimal interestRate = BigDecimal.valueOf(product.getInterestRate()).divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
-        BigDecimal monitoringRate = BigDecimal.valueOf(product.getMonitoringFeeRate()).divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
-        BigDecimal processingRate = BigDecimal.valueOf(product.getProcessingFeeRate()).divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
-
-        BigDecimal interest = interestRate.multiply(approvedAmount).multiply(tenorBig);
-        BigDecimal monitoringFee = monitoringRate.multiply(approvedAmount).multiply(tenorBig);
-        BigDecimal processingFee = processingRate.multiply(approvedAmount).multiply(tenorBig);
-
-        BigDecimal numOfRepaymentsBig = BigDecimal.valueOf(numOfRepayments);
-
-        BigDecimal repaymentInterest = interest.divide(numOfRepaymentsBig, 2, RoundingMode.HALF_UP);
-        BigDecimal repaymentMonitoringFee = monitoringFee.divide(numOfRepaymentsBig, 2, RoundingMode.HALF_UP);
-        BigDecimal repaymentProcessingFee = processingFee.divide(numOfRepaymentsBig, 2, RoundingMode.HALF_UP);
-        BigDecimal repaymentPrincipal = approvedAmount.divide(numOfRepaymentsBig, 2, RoundingMode.HALF_UP);
-
-        BigDecimal repaymentTotal = repaymentInterest.add(repaymentMonitoringFee).add(repaymentProcessingFee).add(repaymentPrincipal);
+        RepaymentScheduleCalculator.Schedule schedule = scheduleCalculator.schedule(loanApplication, numOfRepayments);
+        Money repaymentInterest = Money.of(schedule.interest());
+        Money repaymentMonitoringFee = Money.of(schedule.monitoringFee());
+        Money repaymentProcessingFee = Money.of(schedule.processingFee());
+        Money repaymentPrincipal = Money.of(schedule.principal());
+        Money repaymentTotal = Money.of(schedule.installmentTotal());
 
         List<LoanRepayment> repayments = new ArrayList<>();
         LocalDateTime startDate = loanApplication.getDisbursedAt();
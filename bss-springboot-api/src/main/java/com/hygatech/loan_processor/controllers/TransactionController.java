@@ -1,8 +1,12 @@
 package com.hygatech.loan_processor.controllers;
 
 import com.hygatech.loan_processor.dtos.LoanProductDto;
+import com.hygatech.loan_processor.dtos.PostingStatusDto;
 import com.hygatech.loan_processor.dtos.TransactionDto;
+import com.hygatech.loan_processor.dtos.TransactionImportReportDto;
 import com.hygatech.loan_processor.entities.Transaction;
+import com.hygatech.loan_processor.services.TransactionImportService;
+import com.hygatech.loan_processor.services.TransactionPostingPipeline;
 import com.hygatech.loan_processor.services.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,12 +17,17 @@ import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/api/v1/transaction")
 @RequiredArgsConstructor
 @Tag(name = "Transactions API", description = "Endpoints for handling transactions")
 public class TransactionController {
     private final TransactionService service;
+    private final TransactionPostingPipeline postingPipeline;
+    private final TransactionImportService importService;
 
     @PostMapping
     @Operation(summary = "Create transaction")
@@ -31,6 +40,41 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(service.create(transactionDto));
     }
 
+    @PostMapping("/async")
+    @Operation(summary = "Queue a transaction for asynchronous posting")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Transaction accepted and queued"),
+            @ApiResponse(responseCode = "400", description = "Bad request: Failed validation"),
+            @ApiResponse(responseCode = "429", description = "Posting queue is full, retry later")
+    })
+    public ResponseEntity<PostingStatusDto> createAsync(@RequestBody TransactionDto transactionDto){
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(postingPipeline.submit(transactionDto));
+    }
+
+    @GetMapping("/async/{trxNo}")
+    @Operation(summary = "Get the posting status of a queued transaction")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Posting status returned")
+    })
+    public ResponseEntity<PostingStatusDto> getAsyncStatus(@PathVariable String trxNo){
+        return ResponseEntity.ok(postingPipeline.status(trxNo));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Import field collections from CSV or NDJSON",
+            description = "CSV needs a header with accountId, amount, trxType and description; noOfDays, commissionAmount and userId are optional")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see the per-row error report"),
+            @ApiResponse(responseCode = "400", description = "Bad request: Missing CSV columns")
+    })
+    public ResponseEntity<TransactionImportReportDto> importTransactions(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                         InputStream body) throws IOException {
+        TransactionImportService.Format format = contentType.startsWith("text/csv")
+                ? TransactionImportService.Format.CSV
+                : TransactionImportService.Format.NDJSON;
+        return ResponseEntity.ok(importService.importTransactions(body, format));
+    }
+
     @PostMapping("/send-sms")
     public ResponseEntity<String> sendSms(@RequestParam String message, @RequestParam String recipient) {
         RestTemplate restTemplate = new RestTemplate();
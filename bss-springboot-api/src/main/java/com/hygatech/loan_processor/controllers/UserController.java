@@ -25,12 +25,13 @@ public class UserController {
 
 
     @GetMapping
-    @Operation(summary = "Get all users")
+    @Operation(summary = "Get all users", description = "Pages by id, 50 per page unless limit is given (at most 500); pass X-Next-Cursor back as after for the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "found")
     })
-    public ResponseEntity<Stream<UserDto>> all(){
-        return ResponseEntity.ok(service.all());
+    public ResponseEntity<Stream<UserDto>> all(@RequestParam(required = false) String after,
+                                               @RequestParam(required = false) Integer limit){
+        return service.all(after, limit).toResponse();
     }
 
     @GetMapping("/{id}")
@@ -10,9 +10,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -24,22 +26,24 @@ public class LoanRepaymentController {
     private final LoanRepaymentService service;
 
     @GetMapping("/paid")
-    @Operation(summary = "Get paid loans monthly")
+    @Operation(summary = "Get paid loans monthly", description = "Month totals over [from, to); the current year when no range is given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Succeeded")
     })
-    public ResponseEntity<Stream<MonthlyRepaymentDTO>> GetPaidMonthlyRepayments(){
-        Stream<MonthlyRepaymentDTO> requests = service.getMonthlyPaidRepaymentsForCurrentYear();
+    public ResponseEntity<Stream<MonthlyRepaymentDTO>> GetPaidMonthlyRepayments(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        Stream<MonthlyRepaymentDTO> requests = service.getMonthlyPaidRepayments(from, to);
         return ResponseEntity.ok(requests);
     }
 
     @GetMapping("/all")
-    @Operation(summary = "Get paid loans monthly")
+    @Operation(summary = "Get all loan repayments monthly", description = "Month totals over [from, to); the current year when no range is given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Succeeded")
     })
-    public ResponseEntity<Stream<MonthlyRepaymentDTO>> getAllMonthlyRepayments(){
-        Stream<MonthlyRepaymentDTO> requests = service.getMonthlyRepaymentsForCurrentYear();
+    public ResponseEntity<Stream<MonthlyRepaymentDTO>> getAllMonthlyRepayments(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        Stream<MonthlyRepaymentDTO> requests = service.getMonthlyRepayments(from, to);
         return ResponseEntity.ok(requests);
     }
 
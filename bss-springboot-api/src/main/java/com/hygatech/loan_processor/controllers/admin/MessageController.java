@@ -34,14 +34,15 @@ public class MessageController {
         return ResponseEntity.status(HttpStatus.CREATED).body(message1);
     }
 
-    @Operation(summary = "Get all messages")
+    @Operation(summary = "Get all messages", description = "Pages by id, 50 per page unless limit is given (at most 500); pass X-Next-Cursor back as after for the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Fetched")
 
     })
     @GetMapping
-    public ResponseEntity<Stream<Message>> all(){
-        return ResponseEntity.ok(service.all());
+    public ResponseEntity<Stream<Message>> all(@RequestParam(required = false) String after,
+                                               @RequestParam(required = false) Integer limit){
+        return service.all(after, limit).toResponse();
     }
 
     @Operation(summary = "Get message by type")
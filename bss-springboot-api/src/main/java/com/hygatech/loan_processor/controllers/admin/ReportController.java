@@ -4,16 +4,24 @@ import com.hygatech.loan_processor.dtos.*;
 import com.hygatech.loan_processor.entities.LoanRepayment;
 import com.hygatech.loan_processor.entities.Transaction;
 import com.hygatech.loan_processor.services.AdasheService;
+import com.hygatech.loan_processor.services.DashboardCacheService;
+import com.hygatech.loan_processor.services.FinancialRollupService;
 import com.hygatech.loan_processor.services.LoanReportService;
+import com.hygatech.loan_processor.services.ReportExportService;
+import com.hygatech.loan_processor.services.ReportExportService.Format;
 import com.hygatech.loan_processor.services.TransactionReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -23,9 +31,15 @@ import java.util.stream.Stream;
 @RequestMapping("api/v1/report")
 @RequiredArgsConstructor
 public class ReportController {
+    // One mapping per export type, so Spring's Accept negotiation (q-values, wildcards) picks the format
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final LoanReportService loanReportService;
     private final TransactionReportService transactionReportService;
     private final AdasheService adasheService;
+    private final ReportExportService reportExportService;
+    private final FinancialRollupService rollupService;
+    private final DashboardCacheService dashboardCacheService;
 
 
     @PostMapping("/loans")
@@ -38,6 +52,24 @@ public class ReportController {
         return ResponseEntity.ok(requests);
     }
 
+    @PostMapping(value = "/loans", produces = TEXT_CSV_VALUE)
+    @Operation(summary = "Export the loan report as CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Succeeded")
+    })
+    public ResponseEntity<StreamingResponseBody> exportLoansCsv(@RequestBody ReportRequest request){
+        return export("loans", Format.CSV, reportExportService.loans(request, Format.CSV));
+    }
+
+    @PostMapping(value = "/loans", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export the loan report as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Succeeded")
+    })
+    public ResponseEntity<StreamingResponseBody> exportLoansNdjson(@RequestBody ReportRequest request){
+        return export("loans", Format.NDJSON, reportExportService.loans(request, Format.NDJSON));
+    }
+
     @PostMapping("/repayment")
     @Operation(summary = "Finish request by Id")
     @ApiResponses(value = {
@@ -48,6 +80,24 @@ public class ReportController {
         return ResponseEntity.ok(requests);
     }
 
+    @PostMapping(value = "/repayment", produces = TEXT_CSV_VALUE)
+    @Operation(summary = "Export the repayment report as CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Succeeded")
+    })
+    public ResponseEntity<StreamingResponseBody> exportRepaymentsCsv(@RequestBody RepaymentReportRequest request){
+        return export("repayments", Format.CSV, reportExportService.repayments(request, Format.CSV));
+    }
+
+    @PostMapping(value = "/repayment", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export the repayment report as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Succeeded")
+    })
+    public ResponseEntity<StreamingResponseBody> exportRepaymentsNdjson(@RequestBody RepaymentReportRequest request){
+        return export("repayments", Format.NDJSON, reportExportService.repayments(request, Format.NDJSON));
+    }
+
     @PostMapping("/transaction")
     @Operation(summary = "Finish request by Id")
     @ApiResponses(value = {
@@ -58,36 +108,77 @@ public class ReportController {
         return ResponseEntity.ok(requests);
     }
 
+    @PostMapping(value = "/transaction", produces = TEXT_CSV_VALUE)
+    @Operation(summary = "Export the transaction report as CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Succeeded")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTransactionsCsv(@RequestBody TransactionReportRequest request){
+        return export("transactions", Format.CSV, reportExportService.transactions(request, Format.CSV));
+    }
+
+    @PostMapping(value = "/transaction", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export the transaction report as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Succeeded")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTransactionsNdjson(@RequestBody TransactionReportRequest request){
+        return export("transactions", Format.NDJSON, reportExportService.transactions(request, Format.NDJSON));
+    }
+
     @GetMapping("/interest")
-    @Operation(summary = "Get monthly interest")
+    @Operation(summary = "Get monthly interest", description = "Month totals over [from, to); the current year when no range is given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Succeeded")
     })
-    public ResponseEntity<Stream<MonthlyRepaymentDTO>> getAllMonthlyInterests(){
-        Stream<MonthlyRepaymentDTO> requests = loanReportService.getMonthlyYearInterest();
+    public ResponseEntity<Stream<MonthlyRepaymentDTO>> getAllMonthlyInterests(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        Stream<MonthlyRepaymentDTO> requests = loanReportService.getMonthlyInterest(from, to);
         return ResponseEntity.ok(requests);
     }
 
     @GetMapping("/fees")
-    @Operation(summary = "Get Monthly Fees")
+    @Operation(summary = "Get Monthly Fees", description = "Month totals over [from, to); the current year when no range is given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful retrieval of monthly fees")
     })
-    public ResponseEntity<Stream<MonthlyRepaymentDTO>> getAllMonthlyFees() {
-        Stream<MonthlyRepaymentDTO> fees = loanReportService.getMonthlyYearFees();
+    public ResponseEntity<Stream<MonthlyRepaymentDTO>> getAllMonthlyFees(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Stream<MonthlyRepaymentDTO> fees = loanReportService.getMonthlyFees(from, to);
         return ResponseEntity.ok(fees);
     }
 
     @GetMapping("/commission")
-    @Operation(summary = "Get Monthly commissions ")
+    @Operation(summary = "Get Monthly commissions ", description = "Month totals over [from, to); the current year when no range is given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Succeeded")
     })
-    public ResponseEntity<Stream<MonthlyRepaymentDTO>> getMonthlyYearCommission(){
-        Stream<MonthlyRepaymentDTO> requests = adasheService.getMonthlyYearAdasheCommission();
+    public ResponseEntity<Stream<MonthlyRepaymentDTO>> getMonthlyYearCommission(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        Stream<MonthlyRepaymentDTO> requests = adasheService.getMonthlyAdasheCommission(from, to);
         return ResponseEntity.ok(requests);
     }
 
+    @PostMapping("/rollups/rebuild")
+    @Operation(summary = "Rebuild the daily financial rollup for [from, to) from the source tables")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Succeeded")
+    })
+    public ResponseEntity<Void> rebuildRollups(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        rollupService.rebuild(from, to);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/cache-stats")
+    @Operation(summary = "Hit/miss counters of the dashboard caches since startup")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Succeeded")
+    })
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats(){
+        return ResponseEntity.ok(dashboardCacheService.stats());
+    }
+
     @GetMapping("adashe/commission")
     @Operation(summary = "Get Adashe commission")
     @ApiResponses(value = {
@@ -104,7 +195,11 @@ public class ReportController {
         return ResponseEntity.ok(commissions);
     }
 
-
-
-
+    private ResponseEntity<StreamingResponseBody> export(String name, Format format, StreamingResponseBody body) {
+        boolean csv = format == Format.CSV;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(csv ? TEXT_CSV_VALUE : MediaType.APPLICATION_NDJSON_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + (csv ? ".csv" : ".ndjson") + "\"")
+                .body(body);
+    }
 }
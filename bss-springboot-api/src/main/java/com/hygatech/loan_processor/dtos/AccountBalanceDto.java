@@ -0,0 +1,19 @@
+package com.hygatech.loan_processor.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountBalanceDto {
+    private Long accountId;
+    private LocalDate asOf;
+    private BigDecimal balance;
+}
@@ -0,0 +1,24 @@
+package com.hygatech.loan_processor.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountStatementDto {
+    private Long accountId;
+    private String accountNumber;
+    private String accountName;
+    /** Balance before the first line of this page. */
+    private BigDecimal openingBalance;
+    private List<StatementLineDto> lines;
+    /** Pass as {@code cursor} to fetch the next page; null on the last page. */
+    private String nextCursor;
+}
@@ -0,0 +1,16 @@
+package com.hygatech.loan_processor.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowErrorDto {
+    /** 1-based data row, not counting the CSV header. */
+    private long row;
+    private String message;
+}
@@ -12,6 +12,7 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 @NoArgsConstructor
 public class MonthlyRepaymentDTO {
+    private int year;
     private int month;
     private BigDecimal amount;
 }
@@ -0,0 +1,24 @@
+package com.hygatech.loan_processor.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostingStatusDto {
+    private String trxNo;
+    private State status;
+    private String message;
+
+    public enum State {
+        /** Accepted and durable in the local log, not yet committed to the database. */
+        QUEUED,
+        POSTED,
+        FAILED,
+        UNKNOWN
+    }
+}
@@ -0,0 +1,35 @@
+package com.hygatech.loan_processor.dtos;
+
+import com.hygatech.loan_processor.entities.RepaymentJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RepaymentJobDto {
+    private Long id;
+    private RepaymentJobStatus status;
+    private LocalDateTime cutoff;
+    private String trxNo;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int totalLoans;
+    private int processedLoans;
+    private int failedLoans;
+    private int remainingLoans;
+    private int totalChunks;
+    private int completedChunks;
+    private int failedChunks;
+    private int remainingChunks;
+    private long installments;
+    private long posted;
+    private long defaulted;
+    private double installmentsPerSecond;
+}
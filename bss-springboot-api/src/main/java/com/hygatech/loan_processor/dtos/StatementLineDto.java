@@ -0,0 +1,23 @@
+package com.hygatech.loan_processor.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StatementLineDto {
+    /** Id of the journal leg. */
+    private Long id;
+    private LocalDateTime trxDate;
+    private String trxNo;
+    private String description;
+    private BigDecimal amount;
+    private BigDecimal balance;
+}
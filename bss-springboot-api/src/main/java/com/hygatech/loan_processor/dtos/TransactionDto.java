@@ -3,6 +3,8 @@ package com.hygatech.loan_processor.dtos;
 import com.hygatech.loan_processor.entities.Account;
 import com.hygatech.loan_processor.entities.TransactionType;
 import com.hygatech.loan_processor.entities.User;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -19,6 +21,8 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 public class TransactionDto {
+    /** Most days one Adashe credit may cover; each day is posted as its own row. */
+    public static final int MAX_NO_OF_DAYS = 366;
 
     private UUID id;
 
@@ -27,6 +31,9 @@ public class TransactionDto {
     @NotNull
     private BigDecimal amount;
 
+    // Unset or 0 posts a single day
+    @Min(0)
+    @Max(MAX_NO_OF_DAYS)
     private Long noOfDays;
     private BigDecimal commissionAmount;
 
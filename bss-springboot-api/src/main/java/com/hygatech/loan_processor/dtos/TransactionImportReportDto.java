@@ -0,0 +1,22 @@
+package com.hygatech.loan_processor.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionImportReportDto {
+    private long totalRows;
+    private long posted;
+    private long failed;
+    private long durationMillis;
+    @Builder.Default
+    private List<ImportRowErrorDto> errors = new ArrayList<>();
+}
@@ -1,14 +1,14 @@
 package com.hygatech.loan_processor.entities;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.hygatech.loan_processor.utils.Money;
+import com.hygatech.loan_processor.utils.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Random;
 
 @Data
 @Entity
@@ -19,11 +19,16 @@ import java.util.Random;
 @AllArgsConstructor
 public class Account {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "accounts_id")
+    @TableGenerator(name = "accounts_id", table = "id_allocator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "accounts", allocationSize = 50)
     private Long id;
     private String name;
     private AccountType accountType;
-    private BigDecimal balance;
+    // Written on insert only; changes go through the atomic AccountRepository balance updates
+    @Column(updatable = false)
+    @Convert(converter = MoneyConverter.class)
+    private Money balance;
     private AccountStatus accountStatus;
     private Integer loanCycle;
     private Long loanId;
@@ -37,25 +42,4 @@ public class Account {
     private String accountNumber;
 
     private LocalDateTime createdAt = LocalDateTime.now();
-
-    @PrePersist
-    protected void onCreate() {
-        this.accountNumber = generateAccountNumber();
-    }
-
-    private String generateAccountNumber() {
-        long timestamp = System.currentTimeMillis();
-
-        int randomNumber = new Random().nextInt(999999);
-
-        String randomNumberStr = String.format("%06d", randomNumber);
-
-        String accountNumber = String.valueOf(timestamp) + randomNumberStr;
-
-        if (accountNumber.length() > 10) {
-            accountNumber = accountNumber.substring(accountNumber.length() - 9);
-        }
-
-        return "2" + accountNumber;
-    }
 }
@@ -0,0 +1,15 @@
+package com.hygatech.loan_processor.entities;
+
+/** Daily totals kept in {@code daily_financial_rollup}; stored by ordinal, append new metrics at the end. */
+public enum FinancialMetric {
+    /** Interest and fees of installments, on the day they were fully paid. */
+    INTEREST_INCOME,
+    /** Forms and search fees, on the day the loan was applied for. */
+    FEE_INCOME,
+    /** Adashe commission, on the day it was charged. */
+    COMMISSION_INCOME,
+    /** Scheduled installment totals, on their maturity day. */
+    REPAYMENTS_DUE,
+    /** Totals of installments that have been paid, on their maturity day. */
+    REPAYMENTS_PAID
+}
@@ -0,0 +1,40 @@
+package com.hygatech.loan_processor.entities;
+
+import com.hygatech.loan_processor.utils.Money;
+import com.hygatech.loan_processor.utils.MoneyConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One leg of a journal posting. Legs are never updated or deleted; a correction is a new
+ * posting. {@code accountId} is set only on {@link LedgerCode#CUSTOMER_ACCOUNT} and
+ * {@link LedgerCode#LOAN_ACCOUNT} legs.
+ */
+@Data
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "journal_entries")
+public class JournalEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "journal_entries_id")
+    @TableGenerator(name = "journal_entries_id", table = "id_allocator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "journal_entries", allocationSize = 50)
+    private Long id;
+    private String trxNo;
+    private LedgerCode ledger;
+    private Long accountId;
+    private TransactionType side;
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
+    private String description;
+    private LocalDateTime postedAt;
+}
@@ -0,0 +1,10 @@
+package com.hygatech.loan_processor.entities;
+
+public enum LedgerCode {
+    CUSTOMER_ACCOUNT,
+    CASH_CLEARING,
+    COMMISSION_INCOME,
+    OPENING_BALANCE,
+    LOAN_ACCOUNT,
+    INTEREST_INCOME
+}
@@ -19,7 +19,9 @@ import java.util.List;
 @Table(name = "loan_applications")
 public class LoanApplication {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "loan_applications_id")
+    @TableGenerator(name = "loan_applications_id", table = "id_allocator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "loan_applications", allocationSize = 50)
     private Long id;
 
     private BigDecimal amount;
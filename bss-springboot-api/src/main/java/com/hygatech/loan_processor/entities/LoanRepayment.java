@@ -1,12 +1,13 @@
 package com.hygatech.loan_processor.entities;
 
+import com.hygatech.loan_processor.utils.Money;
+import com.hygatech.loan_processor.utils.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -18,21 +19,31 @@ import java.time.LocalDateTime;
 public class LoanRepayment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "loan_repayments_id")
+    @TableGenerator(name = "loan_repayments_id", table = "id_allocator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "loan_repayments", allocationSize = 50)
     private Long id;
     @ManyToOne
     private LoanApplication application;
-    private BigDecimal interest;
-    private BigDecimal monitoringFee;
-    private BigDecimal processingFee;
-    private BigDecimal principal;
+    @Convert(converter = MoneyConverter.class)
+    private Money interest;
+    @Convert(converter = MoneyConverter.class)
+    private Money monitoringFee;
+    @Convert(converter = MoneyConverter.class)
+    private Money processingFee;
+    @Convert(converter = MoneyConverter.class)
+    private Money principal;
     private RepaymentStatus status;
     private LocalDateTime maturityDate;
     private LocalDateTime paymentDate;
     private Long daysOverdue;
-    private BigDecimal total;
-    private BigDecimal totalPaid;
-    private BigDecimal totalDue;
-    private BigDecimal totalInterestPaid;
+    @Convert(converter = MoneyConverter.class)
+    private Money total;
+    @Convert(converter = MoneyConverter.class)
+    private Money totalPaid;
+    @Convert(converter = MoneyConverter.class)
+    private Money totalDue;
+    @Convert(converter = MoneyConverter.class)
+    private Money totalInterestPaid;
 
 }
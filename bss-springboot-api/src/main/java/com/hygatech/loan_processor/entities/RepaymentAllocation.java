@@ -0,0 +1,44 @@
+package com.hygatech.loan_processor.entities;
+
+import com.hygatech.loan_processor.utils.Money;
+import com.hygatech.loan_processor.utils.MoneyConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * The part of an aggregated loan credit that went to one installment, and how much of that
+ * part was interest and fees. The amounts of one transaction's allocations add up to it.
+ */
+@Data
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "repayment_allocations")
+public class RepaymentAllocation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "repayment_allocations_id")
+    @TableGenerator(name = "repayment_allocations_id", table = "id_allocator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "repayment_allocations", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "transaction_id")
+    @ToString.Exclude
+    private Transaction transaction;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "repayment_id")
+    @ToString.Exclude
+    private LoanRepayment repayment;
+
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
+    @Convert(converter = MoneyConverter.class)
+    private Money interestAmount;
+}
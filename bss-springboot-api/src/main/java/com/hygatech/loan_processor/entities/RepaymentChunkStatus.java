@@ -0,0 +1,7 @@
+package com.hygatech.loan_processor.entities;
+
+public enum RepaymentChunkStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
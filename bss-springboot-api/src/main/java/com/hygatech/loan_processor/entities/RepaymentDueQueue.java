@@ -0,0 +1,21 @@
+package com.hygatech.loan_processor.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Data
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "repayment_due_queue")
+public class RepaymentDueQueue {
+    @Id
+    private Long applicationId;
+    private LocalDateTime nextDueDate;
+}
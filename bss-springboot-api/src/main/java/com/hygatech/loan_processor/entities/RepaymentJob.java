@@ -0,0 +1,29 @@
+package com.hygatech.loan_processor.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Data
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "repayment_jobs")
+public class RepaymentJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private RepaymentJobStatus status;
+    private LocalDateTime cutoff;
+    private String trxNo;
+    private Integer totalLoans;
+    private Integer totalChunks;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,43 @@
+package com.hygatech.loan_processor.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * A contiguous range of due loans within a repayment job. The chunk row is updated in the same
+ * transaction as the chunk's postings, so a COMPLETED chunk is never posted twice.
+ */
+@Data
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "repayment_job_chunks")
+public class RepaymentJobChunk {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id")
+    @ToString.Exclude
+    private RepaymentJob job;
+
+    private Integer chunkNo;
+    private Long firstApplicationId;
+    private Long lastApplicationId;
+    private Integer loans;
+    private RepaymentChunkStatus status;
+    private Long lastRepaymentId;
+    private Long installments;
+    private Long posted;
+    private Long defaulted;
+    private Integer attempts;
+    private String errorMessage;
+    private LocalDateTime completedAt;
+}
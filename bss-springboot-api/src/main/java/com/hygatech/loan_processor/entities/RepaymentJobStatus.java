@@ -0,0 +1,8 @@
+package com.hygatech.loan_processor.entities;
+
+public enum RepaymentJobStatus {
+    SUBMITTED,
+    RUNNING,
+    COMPLETED,
+    COMPLETED_WITH_ERRORS
+}
@@ -1,13 +1,15 @@
 package com.hygatech.loan_processor.entities;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.hygatech.loan_processor.utils.Money;
+import com.hygatech.loan_processor.utils.MoneyConverter;
+import com.hygatech.loan_processor.utils.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -18,10 +20,11 @@ import java.util.UUID;
 @AllArgsConstructor
 public class Transaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
-    private BigDecimal amount;
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
 
     @ManyToOne()
     @JoinColumn(name = "account_id")
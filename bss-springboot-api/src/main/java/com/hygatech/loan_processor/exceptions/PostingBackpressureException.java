@@ -0,0 +1,7 @@
+package com.hygatech.loan_processor.exceptions;
+
+public class PostingBackpressureException extends RuntimeException {
+    public PostingBackpressureException(String message) {
+        super(message);
+    }
+}
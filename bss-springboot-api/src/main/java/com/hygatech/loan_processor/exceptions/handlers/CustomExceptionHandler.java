@@ -3,6 +3,7 @@ package com.hygatech.loan_processor.exceptions.handlers;
 import com.hygatech.loan_processor.dtos.ServerResponse;
 import com.hygatech.loan_processor.exceptions.IncorrectPasswordException;
 import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
+import com.hygatech.loan_processor.exceptions.PostingBackpressureException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -77,6 +78,28 @@ public class CustomExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ServerResponse> handleIllegalArgumentException(IllegalArgumentException ex){
+        ServerResponse errors = ServerResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .message(ex.getMessage())
+                .timeStamp(LocalDateTime.now())
+                .build();
+
+        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(PostingBackpressureException.class)
+    public ResponseEntity<ServerResponse> handlePostingBackpressureException(PostingBackpressureException ex){
+        ServerResponse errors = ServerResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(ex.getMessage())
+                .timeStamp(LocalDateTime.now())
+                .build();
+
+        return new ResponseEntity<>(errors, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleException(Exception e) {
         // Log the exception details
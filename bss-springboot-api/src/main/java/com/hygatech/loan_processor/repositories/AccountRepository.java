@@ -5,10 +5,13 @@ import com.hygatech.loan_processor.entities.AccountStatus;
 import com.hygatech.loan_processor.entities.AccountType;
 import com.hygatech.loan_processor.entities.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +30,28 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findAccountByAccountTypeAndCustomer(AccountType accountType, Customer customer);
 
     Optional<Account> findAccountByAccountTypeAndCustomerAndAccountStatus(AccountType accountType, Customer customer, AccountStatus status);
+
+    List<Account> findAccountsByAccountTypeAndCustomerIdIn(AccountType accountType, Collection<Long> customerIds);
+
+    List<Account> findAccountsByLoanIdIn(Collection<Long> loanIds);
+
+    /**
+     * Adds {@code delta} to the balance only if the result stays non-negative. Returns 0 when the
+     * balance does not cover the debit, so the overdraft check and the write are one statement.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance = balance + :delta WHERE id = :id AND balance + :delta >= 0", nativeQuery = true)
+    int adjustBalanceIfCovered(@Param("id") Long id, @Param("delta") BigDecimal delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance = balance + :delta WHERE id = :id", nativeQuery = true)
+    int adjustBalance(@Param("id") Long id, @Param("delta") BigDecimal delta);
+
+    /**
+     * Subtracts {@code expected} only while it is still the whole balance, leaving zero. Returns 0
+     * when another posting changed the balance since it was read.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance = balance - :expected WHERE id = :id AND balance = :expected", nativeQuery = true)
+    int clearBalanceIfUnchanged(@Param("id") Long id, @Param("expected") BigDecimal expected);
 }
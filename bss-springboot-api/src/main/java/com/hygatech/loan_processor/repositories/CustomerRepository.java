@@ -1,6 +1,7 @@
 package com.hygatech.loan_processor.repositories;
 
 import com.hygatech.loan_processor.entities.Customer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,4 +9,5 @@ import java.util.List;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -1,9 +1,13 @@
 package com.hygatech.loan_processor.repositories;
 
 import com.hygatech.loan_processor.entities.Group;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
+    List<Group> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
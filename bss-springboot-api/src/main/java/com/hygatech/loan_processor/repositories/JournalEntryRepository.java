@@ -0,0 +1,96 @@
+package com.hygatech.loan_processor.repositories;
+
+import com.hygatech.loan_processor.entities.JournalEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long> {
+    /**
+     * Signed effect of leg {@code j} on its account's balance. Customer account legs raise it with
+     * credits; loan account legs (ledger 4, an asset) raise it with debits.
+     */
+    String BALANCE_CHANGE = "CASE WHEN (j.side = 1) <> (j.ledger = 4) THEN j.amount ELSE -j.amount END";
+
+    /** Net effect of an account's legs posted in [from, to). */
+    @Query(value = "SELECT COALESCE(SUM(" + BALANCE_CHANGE + "), 0) " +
+            "FROM journal_entries j WHERE j.account_id = :accountId AND j.posted_at >= :from AND j.posted_at < :to",
+            nativeQuery = true)
+    BigDecimal sumAccountMovements(@Param("accountId") Long accountId,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to);
+
+    /**
+     * Net effect of an account's legs from {@code from} up to and including the keyset (afterDate, afterId),
+     * index-only over idx_journal_account_posted_amount.
+     */
+    @Query(value = "SELECT COALESCE(SUM(" + BALANCE_CHANGE + "), 0) " +
+            "FROM journal_entries j WHERE j.account_id = :accountId AND j.posted_at >= :from " +
+            "AND (j.posted_at < :afterDate OR (j.posted_at = :afterDate AND j.id <= :afterId))",
+            nativeQuery = true)
+    BigDecimal sumAccountMovementsThrough(@Param("accountId") Long accountId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("afterDate") LocalDateTime afterDate,
+                                          @Param("afterId") long afterId);
+
+    /**
+     * One statement page of an account's legs after the keyset (afterDate, afterId) within [from, to),
+     * over idx_journal_account_posted_amount, with the running balance computed by a window over the page
+     * only. Rows are [id, posted_at, trx_no, description, signed amount, balance].
+     */
+    @Query(value = "SELECT p.id, p.posted_at, p.trx_no, p.description, p.amount, " +
+            ":opening + SUM(p.amount) OVER (ORDER BY p.posted_at, p.id) AS balance " +
+            "FROM (SELECT j.id, j.posted_at, j.trx_no, j.description, " + BALANCE_CHANGE + " AS amount " +
+            "      FROM journal_entries j WHERE j.account_id = :accountId " +
+            "        AND (j.posted_at > :afterDate OR (j.posted_at = :afterDate AND j.id > :afterId)) " +
+            "        AND j.posted_at >= :from AND j.posted_at < :to " +
+            "      ORDER BY j.posted_at, j.id LIMIT :limit) p " +
+            "ORDER BY p.posted_at, p.id",
+            nativeQuery = true)
+    List<Object[]> findStatementPage(@Param("accountId") Long accountId,
+                                     @Param("opening") BigDecimal opening,
+                                     @Param("afterDate") LocalDateTime afterDate,
+                                     @Param("afterId") long afterId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("limit") int limit);
+
+    @Query(value = "SELECT MIN(j.posted_at) FROM journal_entries j WHERE j.account_id = :accountId", nativeQuery = true)
+    LocalDateTime findFirstPostedAt(@Param("accountId") Long accountId);
+
+    /** Latest snapshot on or before the date, as [snapshot_date, balance]. */
+    @Query(value = "SELECT s.snapshot_date, s.balance FROM account_balance_snapshots s " +
+            "WHERE s.account_id = :accountId AND s.snapshot_date <= :date ORDER BY s.snapshot_date DESC LIMIT 1",
+            nativeQuery = true)
+    List<Object[]> findLatestSnapshot(@Param("accountId") Long accountId, @Param("date") LocalDate date);
+
+    @Query(value = "SELECT MAX(s.snapshot_date) FROM account_balance_snapshots s", nativeQuery = true)
+    LocalDate findLastSnapshotDate();
+
+    /**
+     * Writes the snapshot for {@code day}: the previous day's snapshot plus the day's movements.
+     * Accounts without movements carry their balance forward; accounts first seen today start at zero.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO account_balance_snapshots (account_id, snapshot_date, balance) " +
+            "SELECT m.account_id, :day, SUM(m.amount) FROM (" +
+            "  SELECT s.account_id, s.balance AS amount FROM account_balance_snapshots s WHERE s.snapshot_date = :previousDay" +
+            "  UNION ALL" +
+            "  SELECT j.account_id, " + BALANCE_CHANGE + " FROM journal_entries j" +
+            "  WHERE j.account_id IS NOT NULL AND j.posted_at >= :from AND j.posted_at < :to" +
+            ") m GROUP BY m.account_id " +
+            "ON DUPLICATE KEY UPDATE balance = VALUES(balance)",
+            nativeQuery = true)
+    int writeSnapshot(@Param("day") LocalDate day,
+                      @Param("previousDay") LocalDate previousDay,
+                      @Param("from") LocalDateTime from,
+                      @Param("to") LocalDateTime to);
+}
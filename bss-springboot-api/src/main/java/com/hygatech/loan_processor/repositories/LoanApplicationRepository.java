@@ -1,13 +1,12 @@
 package com.hygatech.loan_processor.repositories;
 
-import com.hygatech.loan_processor.dtos.MonthlyRepaymentDTO;
 import com.hygatech.loan_processor.entities.LoanApplication;
 import com.hygatech.loan_processor.entities.LoanStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -15,13 +14,9 @@ import java.util.List;
 
 @Repository
 public interface LoanApplicationRepository extends JpaRepository<LoanApplication, Long>, JpaSpecificationExecutor<LoanApplication> {
-    List<LoanApplication> findLoanApplicationsByStatusIn(Collection<LoanStatus> status);
+    List<LoanApplication> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 
-    @Query("SELECT new com.hygatech.loan_processor.dtos.MonthlyRepaymentDTO(MONTH(la.appliedAt), SUM(la.formsFee + la.searchFee)) " +
-            "FROM LoanApplication la " +
-            "WHERE YEAR(la.appliedAt) = :year " +
-            "GROUP BY MONTH(la.appliedAt)")
-    List<MonthlyRepaymentDTO> findMonthlyFeeIncomeByYear(@Param("year") int year);
+    List<LoanApplication> findLoanApplicationsByStatusIn(Collection<LoanStatus> status);
 
     @Query("SELECT la.customer, COUNT(la) AS loanCount " +
             "FROM LoanApplication la " +
@@ -1,7 +1,11 @@
 package com.hygatech.loan_processor.repositories;
 
 import com.hygatech.loan_processor.entities.LoanProduct;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface LoanProductRepository extends JpaRepository<LoanProduct, Long> {
+    List<LoanProduct> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
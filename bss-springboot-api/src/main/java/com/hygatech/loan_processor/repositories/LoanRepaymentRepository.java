@@ -1,16 +1,20 @@
 package com.hygatech.loan_processor.repositories;
 
-import com.hygatech.loan_processor.dtos.MonthlyRepaymentDTO;
 import com.hygatech.loan_processor.entities.LoanRepayment;
 import com.hygatech.loan_processor.entities.RepaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface LoanRepaymentRepository extends JpaRepository<LoanRepayment, Long>, JpaSpecificationExecutor<LoanRepayment> {
@@ -18,22 +22,32 @@ public interface LoanRepaymentRepository extends JpaRepository<LoanRepayment, Lo
     List<LoanRepayment> findLoanRepaymentsByApplicationId(Long applicationId);
     List<LoanRepayment> findLoanRepaymentsByStatusAndMaturityDateIsLessThanEqual(RepaymentStatus status, LocalDateTime dateTime);
 
-    @Query("SELECT new com.hygatech.loan_processor.dtos.MonthlyRepaymentDTO(MONTH(lr.maturityDate), SUM(lr.total)) " +
-            "FROM LoanRepayment lr " +
-            "WHERE lr.status = :status AND YEAR(lr.maturityDate) = :year " +
-            "GROUP BY MONTH(lr.maturityDate)")
-    List<MonthlyRepaymentDTO> findMonthlyRepaymentsByStatusAndYear(@Param("status") RepaymentStatus status, @Param("year") int year);
-
-    @Query("SELECT new com.hygatech.loan_processor.dtos.MonthlyRepaymentDTO(MONTH(lr.maturityDate), SUM(lr.total)) FROM LoanRepayment lr " +
-            "WHERE YEAR(lr.maturityDate) = :year " +
-            "GROUP BY MONTH(lr.maturityDate)")
-    List<MonthlyRepaymentDTO> findMonthlyRepaymentsByYear(@Param("year") int year);
-
-
-    @Query("SELECT new com.hygatech.loan_processor.dtos.MonthlyRepaymentDTO(MONTH(lr.paymentDate), SUM(lr.interest + lr.monitoringFee + lr.processingFee)) FROM LoanRepayment lr " +
-            "WHERE YEAR(lr.paymentDate) = :year " +
-            "GROUP BY MONTH(lr.paymentDate)")
-    List<MonthlyRepaymentDTO> findMonthlyInterestByYear(@Param("year") int year);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT lr FROM LoanRepayment lr " +
+            "LEFT JOIN FETCH lr.application a " +
+            "LEFT JOIN FETCH a.customer " +
+            "LEFT JOIN FETCH a.loanProduct " +
+            "WHERE lr.status IN :statuses AND lr.maturityDate <= :cutoff " +
+            "ORDER BY a.id, lr.id")
+    Stream<LoanRepayment> streamDueRepayments(@Param("statuses") Collection<RepaymentStatus> statuses, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT lr FROM LoanRepayment lr " +
+            "JOIN FETCH lr.application a " +
+            "JOIN FETCH a.customer " +
+            "WHERE a.id IN :applicationIds AND lr.status IN :statuses AND lr.maturityDate <= :cutoff " +
+            "ORDER BY a.id, lr.status, lr.id")
+    List<LoanRepayment> findDueRepaymentsForApplications(@Param("applicationIds") Collection<Long> applicationIds,
+                                                         @Param("statuses") Collection<RepaymentStatus> statuses,
+                                                         @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT lr.application.id, MIN(lr.maturityDate) FROM LoanRepayment lr " +
+            "WHERE lr.application.id IN :applicationIds AND lr.status IN :statuses " +
+            "GROUP BY lr.application.id")
+    List<Object[]> findNextDueDates(@Param("applicationIds") Collection<Long> applicationIds,
+                                    @Param("statuses") Collection<RepaymentStatus> statuses);
 
     List<LoanRepayment> findLoanRepaymentsByApplicationIdAndStatusIn(Long applicationId, List<RepaymentStatus> statuss);
 
@@ -2,11 +2,15 @@ package com.hygatech.loan_processor.repositories;
 
 import com.hygatech.loan_processor.entities.Message;
 import com.hygatech.loan_processor.entities.MessageType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
+import java.util.List;
+
 public interface MessageRepository extends JpaRepository<Message, Long> {
+    List<Message> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 
     Optional<Message> findMessageByType(MessageType type);
 }
@@ -0,0 +1,9 @@
+package com.hygatech.loan_processor.repositories;
+
+import com.hygatech.loan_processor.entities.RepaymentAllocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RepaymentAllocationRepository extends JpaRepository<RepaymentAllocation, Long> {
+}
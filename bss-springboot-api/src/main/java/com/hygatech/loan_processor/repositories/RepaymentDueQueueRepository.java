@@ -0,0 +1,29 @@
+package com.hygatech.loan_processor.repositories;
+
+import com.hygatech.loan_processor.entities.RepaymentDueQueue;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface RepaymentDueQueueRepository extends JpaRepository<RepaymentDueQueue, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT q.applicationId FROM RepaymentDueQueue q WHERE q.nextDueDate <= :cutoff ORDER BY q.applicationId")
+    Stream<Long> streamDueApplicationIds(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT q.applicationId FROM RepaymentDueQueue q " +
+            "WHERE q.applicationId BETWEEN :firstApplicationId AND :lastApplicationId AND q.nextDueDate <= :cutoff " +
+            "ORDER BY q.applicationId")
+    List<Long> findDueApplicationIdsBetween(@Param("firstApplicationId") Long firstApplicationId,
+                                            @Param("lastApplicationId") Long lastApplicationId,
+                                            @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,34 @@
+package com.hygatech.loan_processor.repositories;
+
+import com.hygatech.loan_processor.entities.RepaymentChunkStatus;
+import com.hygatech.loan_processor.entities.RepaymentJobChunk;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RepaymentJobChunkRepository extends JpaRepository<RepaymentJobChunk, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM RepaymentJobChunk c JOIN FETCH c.job WHERE c.id = :id")
+    Optional<RepaymentJobChunk> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT c.id FROM RepaymentJobChunk c WHERE c.job.id = :jobId AND c.status IN :statuses ORDER BY c.chunkNo")
+    List<Long> findChunkIdsByJobAndStatusIn(@Param("jobId") Long jobId, @Param("statuses") Collection<RepaymentChunkStatus> statuses);
+
+    @Query("SELECT c.status, COUNT(c), SUM(c.loans), SUM(c.installments), SUM(c.posted), SUM(c.defaulted) " +
+            "FROM RepaymentJobChunk c WHERE c.job.id = :jobId GROUP BY c.status")
+    List<Object[]> summarizeByStatus(@Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("DELETE FROM RepaymentJobChunk c WHERE c.job.id = :jobId")
+    void deleteByJobId(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,14 @@
+package com.hygatech.loan_processor.repositories;
+
+import com.hygatech.loan_processor.entities.RepaymentJob;
+import com.hygatech.loan_processor.entities.RepaymentJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RepaymentJobRepository extends JpaRepository<RepaymentJob, Long> {
+    List<RepaymentJob> findRepaymentJobsByStatusIn(Collection<RepaymentJobStatus> statuses);
+}
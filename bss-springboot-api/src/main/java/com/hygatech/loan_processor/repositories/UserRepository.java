@@ -1,12 +1,17 @@
 package com.hygatech.loan_processor.repositories;
 
 import com.hygatech.loan_processor.entities.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
+import java.util.List;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
     Optional<User> findByUsername(String username);
 }
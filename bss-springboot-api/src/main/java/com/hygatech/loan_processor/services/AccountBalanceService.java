@@ -0,0 +1,65 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.entities.Account;
+import com.hygatech.loan_processor.repositories.AccountRepository;
+import com.hygatech.loan_processor.utils.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The only writer of {@code accounts.balance}. Every change is a single relative UPDATE, so
+ * concurrent postings to one account cannot overwrite each other, and debits are checked
+ * against the balance in the same statement. The methods taking an {@link Account} also apply
+ * the change to the entity for the caller's later logic.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceService {
+    private final AccountRepository accountRepository;
+
+    @Transactional
+    public void credit(Account account, Money amount) {
+        applyAdjustment(account.getId(), amount);
+        account.setBalance(account.getBalance().plus(amount));
+    }
+
+    /**
+     * Debits the account if its balance in the database covers the amount. Returns false, and
+     * leaves the account untouched, when it does not.
+     */
+    @Transactional
+    public boolean tryDebit(Account account, Money amount) {
+        if (!applyDebit(account.getId(), amount)) {
+            return false;
+        }
+        account.setBalance(account.getBalance().minus(amount));
+        return true;
+    }
+
+    /**
+     * Brings the balance to zero if it is still {@code expected}. Returns false, and leaves the
+     * account untouched, when a concurrent posting has changed it.
+     */
+    @Transactional
+    public boolean tryClear(Account account, Money expected) {
+        if (accountRepository.clearBalanceIfUnchanged(account.getId(), expected.toBigDecimal()) != 1) {
+            return false;
+        }
+        account.setBalance(Money.ZERO);
+        return true;
+    }
+
+    /** Relative change with no overdraft check, e.g. a loan account that may round below zero. */
+    @Transactional
+    public void applyAdjustment(Long accountId, Money delta) {
+        if (!delta.isZero()) {
+            accountRepository.adjustBalance(accountId, delta.toBigDecimal());
+        }
+    }
+
+    @Transactional
+    public boolean applyDebit(Long accountId, Money amount) {
+        return amount.isZero() || accountRepository.adjustBalanceIfCovered(accountId, amount.negate().toBigDecimal()) == 1;
+    }
+}
@@ -0,0 +1,151 @@
+package com.hygatech.loan_processor.services;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out 10-digit account numbers: a 9-digit serial followed by a NUBAN-style check digit
+ * (weights 3, 7, 3 repeated). Serials are reserved from the {@code account_numbers} row of
+ * {@code id_allocator} a block at a time in their own transaction, so a rolled-back customer
+ * creation only leaves a gap and two instances never hand out the same serial.
+ * <p>
+ * Services assign the number before {@code save}, never from an entity callback during a flush.
+ * The next block is reserved on a background thread once half of the current one is used, so a
+ * caller holding a pooled connection normally never waits for a second one.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountNumberAllocator {
+    private static final String SEQUENCE_NAME = "account_numbers";
+    private static final int[] CHECK_WEIGHTS = {3, 7, 3, 3, 7, 3, 3, 7, 3};
+    private static final long MAX_SERIAL = 999_999_999L;
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${loan.account-number.block-size:100}")
+    private int blockSize;
+
+    private final ExecutorService prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "account-number-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Block current = new Block(0, 0);
+    // End of the next reserved block, guarded by this
+    private CompletableFuture<Long> prefetched;
+
+    /** Serials [start, end) of one reserved block. */
+    private static final class Block {
+        private final long start;
+        private final long end;
+        private final AtomicLong next;
+
+        private Block(long start, long end) {
+            this.start = start;
+            this.end = end;
+            this.next = new AtomicLong(start);
+        }
+    }
+
+    public String next() {
+        while (true) {
+            Block block = current;
+            long serial = block.next.getAndIncrement();
+            if (serial < block.end) {
+                if (serial == block.start + (block.end - block.start) / 2) {
+                    prefetch();
+                }
+                return format(serial);
+            }
+            advance(block);
+        }
+    }
+
+    public static boolean isValid(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != 10) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            char c = accountNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            sum += (c - '0') * CHECK_WEIGHTS[i];
+        }
+        return accountNumber.charAt(9) - '0' == (10 - sum % 10) % 10;
+    }
+
+    @PreDestroy
+    public void stop() {
+        prefetcher.shutdownNow();
+    }
+
+    private synchronized void prefetch() {
+        if (prefetched == null) {
+            prefetched = CompletableFuture.supplyAsync(this::reserveBlock, prefetcher);
+        }
+    }
+
+    private synchronized void advance(Block exhausted) {
+        if (current != exhausted) {
+            // Another thread already moved to a fresh block
+            return;
+        }
+        long end;
+        try {
+            // Only a cold start or a burst past the prefetched block reserves on the caller's thread
+            end = prefetched != null ? prefetched.join() : reserveBlock();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        } finally {
+            prefetched = null;
+        }
+        if (end - 1 > MAX_SERIAL) {
+            throw new IllegalStateException("Account number serials are exhausted");
+        }
+        current = new Block(end - blockSize, end);
+    }
+
+    /** Advances the counter by one block and returns its new value, the end of the reserved block. */
+    private long reserveBlock() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Long end = template.execute(status -> {
+            // LAST_INSERT_ID(expr) remembers the updated value for this connection, so no second lock is needed
+            entityManager.createNativeQuery("UPDATE id_allocator SET next_val = LAST_INSERT_ID(next_val + :blockSize) WHERE sequence_name = :name")
+                    .setParameter("blockSize", blockSize)
+                    .setParameter("name", SEQUENCE_NAME)
+                    .executeUpdate();
+            return ((Number) entityManager.createNativeQuery("SELECT LAST_INSERT_ID()").getSingleResult()).longValue();
+        });
+        return end;
+    }
+
+    static String format(long serial) {
+        char[] digits = new char[10];
+        int sum = 0;
+        for (int i = 8; i >= 0; i--) {
+            int digit = (int) (serial % 10);
+            digits[i] = (char) ('0' + digit);
+            sum += digit * CHECK_WEIGHTS[i];
+            serial /= 10;
+        }
+        digits[9] = (char) ('0' + (10 - sum % 10) % 10);
+        return new String(digits);
+    }
+}
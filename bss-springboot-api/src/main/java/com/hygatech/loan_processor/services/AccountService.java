@@ -1,5 +1,6 @@
 package com.hygatech.loan_processor.services;
 
+import com.hygatech.loan_processor.dtos.AccountBalanceDto;
 import com.hygatech.loan_processor.dtos.AccountDto;
 import com.hygatech.loan_processor.dtos.AccountRequestDto;
 import com.hygatech.loan_processor.entities.Account;
@@ -7,11 +8,12 @@ import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
 import com.hygatech.loan_processor.repositories.AccountRepository;
 import com.hygatech.loan_processor.repositories.CustomerRepository;
 import com.hygatech.loan_processor.utils.AccountUtil;
+import com.hygatech.loan_processor.utils.Money;
 import com.sun.source.doctree.SeeTree;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -20,14 +22,17 @@ import java.util.stream.Stream;
 public class AccountService {
     private final AccountRepository repository;
     private final CustomerRepository customerRepository;
+    private final JournalService journalService;
+    private final AccountNumberAllocator accountNumberAllocator;
 
     public AccountDto create(AccountRequestDto requestDto){
         try {
             Account account = new Account();
+            account.setAccountNumber(accountNumberAllocator.next());
             account.setName(requestDto.getName());
             account.setAccountType(requestDto.getAccountType());
             account.setAccountStatus(requestDto.getAccountStatus());
-            account.setBalance(BigDecimal.ZERO);
+            account.setBalance(Money.ZERO);
 
             return AccountUtil.toDto(repository.save(account));
 
@@ -44,6 +49,19 @@ public class AccountService {
         return AccountUtil.toDto(accountOptional.get());
     }
 
+    /** End-of-day balance from the journal; today when no date is given. */
+    public AccountBalanceDto balanceAsOf(Long accountId, LocalDate asOf){
+        if (!repository.existsById(accountId)) {
+            throw new ObjectNotFoundException("Account not found");
+        }
+        LocalDate date = asOf != null ? asOf : LocalDate.now();
+        return AccountBalanceDto.builder()
+                .accountId(accountId)
+                .asOf(date)
+                .balance(journalService.balanceAsOf(accountId, date))
+                .build();
+    }
+
     public Stream<AccountDto> findByCustomer(Long customerId){
 
         return repository.findAccountsByCustomerId(customerId).stream().map(AccountUtil::toDto);
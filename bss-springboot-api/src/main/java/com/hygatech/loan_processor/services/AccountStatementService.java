@@ -0,0 +1,124 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.dtos.AccountStatementDto;
+import com.hygatech.loan_processor.dtos.StatementLineDto;
+import com.hygatech.loan_processor.entities.Account;
+import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
+import com.hygatech.loan_processor.repositories.AccountRepository;
+import com.hygatech.loan_processor.repositories.JournalEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Account statements over the account's journal legs, paged by keyset on (posted_at, id) over
+ * idx_journal_account_posted_amount. The journal also carries commissions and liquidation
+ * write-offs that have no transactions row, so the balances agree with {@code Account.balance}.
+ * The cursor only names the last row; each page's opening balance is recomputed from
+ * {@link JournalService#balanceAsOf} plus the legs up to the cursor, so a client cannot move the
+ * running balance by editing the token.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountStatementService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final AccountRepository accountRepository;
+    private final JournalEntryRepository journalEntryRepository;
+    private final JournalService journalService;
+
+    @Transactional(readOnly = true)
+    public AccountStatementDto statement(Long accountId, LocalDate from, LocalDate to, String cursor, Integer limit) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new ObjectNotFoundException("Account not found"));
+
+        // Without a start date the statement begins on the day of the account's first journal leg
+        LocalDate first = from;
+        if (first == null) {
+            LocalDateTime firstPosted = journalEntryRepository.findFirstPostedAt(accountId);
+            first = firstPosted != null ? firstPosted.toLocalDate() : LocalDate.now();
+        }
+        LocalDateTime start = first.atStartOfDay();
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : LATEST;
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        StatementCursor after = cursor != null ? StatementCursor.decode(cursor) : null;
+        BigDecimal opening = journalService.balanceAsOf(accountId, first.minusDays(1));
+        if (after != null) {
+            opening = opening.add(journalEntryRepository.sumAccountMovementsThrough(accountId, start, after.postedAt(), after.id()));
+        }
+
+        // One extra row tells whether there is a next page without a count query
+        List<Object[]> rows = journalEntryRepository.findStatementPage(accountId, opening,
+                after != null ? after.postedAt() : start, after != null ? after.id() : 0L,
+                start, end, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+
+        List<StatementLineDto> lines = new ArrayList<>(Math.min(rows.size(), pageSize) + 1);
+        if (after == null) {
+            lines.add(StatementLineDto.builder()
+                    .trxDate(start)
+                    .description("Opening balance")
+                    .balance(opening)
+                    .build());
+        }
+        for (int i = 0; i < Math.min(rows.size(), pageSize); i++) {
+            Object[] row = rows.get(i);
+            lines.add(StatementLineDto.builder()
+                    .id(((Number) row[0]).longValue())
+                    .trxDate(toLocalDateTime(row[1]))
+                    .trxNo((String) row[2])
+                    .description((String) row[3])
+                    .amount((BigDecimal) row[4])
+                    .balance((BigDecimal) row[5])
+                    .build());
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            StatementLineDto last = lines.getLast();
+            nextCursor = new StatementCursor(last.getTrxDate(), last.getId()).encode();
+        }
+
+        return AccountStatementDto.builder()
+                .accountId(account.getId())
+                .accountNumber(account.getAccountNumber())
+                .accountName(account.getName())
+                .openingBalance(opening)
+                .lines(lines)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private record StatementCursor(LocalDateTime postedAt, Long id) {
+
+        String encode() {
+            String value = postedAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static StatementCursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                return new StatementCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Invalid statement cursor");
+            }
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
@@ -5,6 +5,7 @@ import com.hygatech.loan_processor.dtos.MonthlyRepaymentDTO;
 import com.hygatech.loan_processor.dtos.ServerResponse;
 import com.hygatech.loan_processor.entities.AdasheCommission;
 import com.hygatech.loan_processor.entities.AdasheSetup;
+import com.hygatech.loan_processor.entities.FinancialMetric;
 import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
 import com.hygatech.loan_processor.repositories.AdasheCommissionRepository;
 import com.hygatech.loan_processor.repositories.AdasheSetupRepository;
@@ -14,6 +15,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -24,11 +26,10 @@ import java.util.stream.Stream;
 public class AdasheService {
     private final AdasheCommissionRepository commissionRepository;
     private final AdasheSetupRepository setupRepository;
+    private final FinancialRollupService rollupService;
 
-    public Stream<MonthlyRepaymentDTO> getMonthlyYearAdasheCommission(){
-        int currentYear = LocalDateTime.now().getYear();
-
-        return commissionRepository.findMonthlyCommissionByYear(currentYear).stream();
+    public Stream<MonthlyRepaymentDTO> getMonthlyAdasheCommission(LocalDate from, LocalDate to){
+        return rollupService.monthly(FinancialMetric.COMMISSION_INCOME, from, to).stream();
     }
 
     public AdasheSetup findLatest(){
@@ -7,13 +7,15 @@ import com.hygatech.loan_processor.repositories.AccountRepository;
 import com.hygatech.loan_processor.repositories.CustomerRepository;
 import com.hygatech.loan_processor.repositories.GroupRepository;
 import com.hygatech.loan_processor.utils.CustomerUtil;
+import com.hygatech.loan_processor.utils.KeysetPage;
+import com.hygatech.loan_processor.utils.Money;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -21,11 +23,13 @@ import java.util.stream.Stream;
 public class CustomerService {
     private final CustomerRepository repository;
     private final AccountRepository accountRepository;
+    private final AccountNumberAllocator accountNumberAllocator;
     public CustomerDto create(CustomerRequestDto customerDto){
         System.out.println(customerDto);
         try {
             Customer customer = CustomerUtil.getCustomer(customerDto);
             Account account = new Account();
+            account.setAccountNumber(accountNumberAllocator.next());
             if (customerDto.getCustomerType() == CustomerType.SAVINGS){
                 account.setName("Savings");
                 account.setAccountType(AccountType.SAVINGS);
@@ -37,7 +41,7 @@ public class CustomerService {
 
             account.setCustomer(customer);
             account.setAccountStatus(AccountStatus.ACTIVE);
-            account.setBalance(BigDecimal.ZERO);
+            account.setBalance(Money.ZERO);
             accountRepository.save(account);
 
             return CustomerUtil.toDto(repository.save(customer));
@@ -47,8 +51,10 @@ public class CustomerService {
         }
     }
 
-    public Stream<CustomerDto> all(){
-        return repository.findAll().stream().map(CustomerUtil::toDto);
+    public KeysetPage<CustomerDto> all(String after, Integer limit){
+        int pageSize = KeysetPage.limit(limit);
+        List<Customer> rows = repository.findByIdGreaterThanOrderByIdAsc(KeysetPage.afterId(after), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, Customer::getId, CustomerUtil::toDto);
     }
 
     public CustomerDto find(Long id){
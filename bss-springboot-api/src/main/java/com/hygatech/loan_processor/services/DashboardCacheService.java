@@ -0,0 +1,65 @@
+package com.hygatech.loan_processor.services;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hygatech.loan_processor.dtos.CacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Owns the dashboard result caches. Services that change loans, repayments or postings publish a
+ * {@link DataChanged} event; the caches are cleared once that transaction commits, so a reader never
+ * re-caches the state from before the write.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardCacheService {
+    public static final String TOP_LOAN_COUNTS = "dashboard.topLoanCounts";
+    public static final String TOP_LOAN_AMOUNTS = "dashboard.topLoanAmounts";
+    public static final String RECENT_APPLICATIONS = "dashboard.recentApplications";
+    public static final String MONTHLY_ROLLUPS = "dashboard.monthlyRollups";
+    public static final List<String> CACHES = List.of(TOP_LOAN_COUNTS, TOP_LOAN_AMOUNTS, RECENT_APPLICATIONS, MONTHLY_ROLLUPS);
+
+    /** Published by a write that changes what the dashboard shows. */
+    public record DataChanged(String source) {
+    }
+
+    private final CacheManager cacheManager;
+
+    // Runs without a transaction too, for writes published outside one
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(DataChanged event) {
+        log.debug("Clearing dashboard caches after {}", event.source());
+        caches().forEach(Cache::clear);
+    }
+
+    public List<CacheStatsDto> stats() {
+        return caches().stream()
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> {
+                    CacheStats stats = cache.getNativeCache().stats();
+                    return CacheStatsDto.builder()
+                            .name(cache.getName())
+                            .size(cache.getNativeCache().estimatedSize())
+                            .hits(stats.hitCount())
+                            .misses(stats.missCount())
+                            .hitRate(stats.hitRate())
+                            .evictions(stats.evictionCount())
+                            .build();
+                })
+                .toList();
+    }
+
+    private List<Cache> caches() {
+        return CACHES.stream().map(cacheManager::getCache).filter(Objects::nonNull).toList();
+    }
+}
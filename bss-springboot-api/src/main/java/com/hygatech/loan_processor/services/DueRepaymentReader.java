@@ -0,0 +1,41 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.entities.LoanRepayment;
+import com.hygatech.loan_processor.repositories.LoanRepaymentRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Walks the due installments through a forward-only cursor. Entities are handed to the consumer
+ * one at a time and the persistence context is cleared as we go, so memory use does not depend
+ * on how many installments are due.
+ */
+@Service
+@RequiredArgsConstructor
+public class DueRepaymentReader {
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final LoanRepaymentRepository repaymentRepository;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long forEachDueRepayment(LocalDateTime cutoff, Consumer<LoanRepayment> consumer) {
+        long count = 0;
+        try (Stream<LoanRepayment> repayments = repaymentRepository.streamDueRepayments(RepaymentChunkProcessor.DUE_STATUSES, cutoff)) {
+            for (LoanRepayment repayment : (Iterable<LoanRepayment>) repayments::iterator) {
+                consumer.accept(repayment);
+                entityManager.detach(repayment);
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+}
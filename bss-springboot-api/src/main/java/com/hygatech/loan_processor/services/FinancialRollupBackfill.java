@@ -0,0 +1,33 @@
+package com.hygatech.loan_processor.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * One-off fill of {@code daily_financial_rollup} from history: runs on the first start after the
+ * table was created, while it is still empty. Later postings keep it current incrementally.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FinancialRollupBackfill {
+    private final FinancialRollupService rollupService;
+
+    @Value("${loan.rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!backfillOnStartup || !rollupService.isEmpty()) {
+            return;
+        }
+        log.info("Daily financial rollup is empty, rebuilding it from history");
+        rollupService.rebuild(LocalDate.EPOCH, LocalDate.now().plusYears(100));
+    }
+}
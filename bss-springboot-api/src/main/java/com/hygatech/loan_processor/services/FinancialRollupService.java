@@ -0,0 +1,143 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.dtos.MonthlyRepaymentDTO;
+import com.hygatech.loan_processor.entities.FinancialMetric;
+import com.hygatech.loan_processor.entities.RepaymentStatus;
+import com.hygatech.loan_processor.utils.Money;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintains {@code daily_financial_rollup}. Posting paths collect their changes in {@link Deltas}
+ * and {@link #apply} them at the end of the posting's own transaction, one upsert per metric and
+ * day, so the rollup commits or rolls back with the postings it summarizes and the dashboard
+ * series are a range read over a few hundred rows whatever the size of the book.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FinancialRollupService {
+    private static final String UPSERT = "INSERT INTO daily_financial_rollup (metric, rollup_date, amount) VALUES (:metric, :day, :amount) " +
+            "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)";
+
+    // Source query of each metric for the rebuild: (day, amount) rows over [:from, :to)
+    private static final Map<FinancialMetric, String> SOURCES = Map.of(
+            FinancialMetric.INTEREST_INCOME, "SELECT DATE(payment_date) AS rollup_day, SUM(COALESCE(interest, 0) + COALESCE(monitoring_fee, 0) + COALESCE(processing_fee, 0)) AS rollup_amount " +
+                    "FROM loan_repayments WHERE payment_date >= :from AND payment_date < :to GROUP BY DATE(payment_date)",
+            FinancialMetric.FEE_INCOME, "SELECT DATE(applied_at) AS rollup_day, SUM(COALESCE(forms_fee, 0) + COALESCE(search_fee, 0)) AS rollup_amount " +
+                    "FROM loan_applications WHERE applied_at >= :from AND applied_at < :to GROUP BY DATE(applied_at)",
+            FinancialMetric.COMMISSION_INCOME, "SELECT DATE(trx_date) AS rollup_day, SUM(amount) AS rollup_amount " +
+                    "FROM adashe_commissions WHERE trx_date >= :from AND trx_date < :to GROUP BY DATE(trx_date)",
+            FinancialMetric.REPAYMENTS_DUE, "SELECT DATE(maturity_date) AS rollup_day, SUM(total) AS rollup_amount " +
+                    "FROM loan_repayments WHERE maturity_date >= :from AND maturity_date < :to GROUP BY DATE(maturity_date)",
+            FinancialMetric.REPAYMENTS_PAID, "SELECT DATE(maturity_date) AS rollup_day, SUM(total) AS rollup_amount " +
+                    "FROM loan_repayments WHERE status = " + RepaymentStatus.PAID.ordinal() + " AND maturity_date >= :from AND maturity_date < :to GROUP BY DATE(maturity_date)"
+    );
+
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Changes to the rollup collected while a posting runs. Kept sorted by metric, then day, so every
+     * writer locks the rollup rows in the same order and concurrent upserts cannot deadlock.
+     */
+    public static final class Deltas {
+        private final Map<Key, Money> amounts = new TreeMap<>(Comparator.comparing(Key::metric).thenComparing(Key::day));
+
+        public Deltas add(FinancialMetric metric, LocalDateTime at, Money amount) {
+            if (at != null && !amount.isZero()) {
+                amounts.merge(new Key(metric, at.toLocalDate()), amount, Money::plus);
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return amounts.isEmpty();
+        }
+    }
+
+    private record Key(FinancialMetric metric, LocalDate day) {
+    }
+
+    @Transactional
+    public void record(FinancialMetric metric, LocalDateTime at, Money amount) {
+        apply(new Deltas().add(metric, at, amount));
+    }
+
+    @Transactional
+    public void apply(Deltas deltas) {
+        deltas.amounts.forEach((key, amount) -> {
+            if (!amount.isZero()) {
+                entityManager.createNativeQuery(UPSERT)
+                        .setParameter("metric", key.metric().ordinal())
+                        .setParameter("day", key.day())
+                        .setParameter("amount", amount.toBigDecimal())
+                        .executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Month totals of {@code metric} over the half-open day range [from, to). Without a range this
+     * is the current calendar year, the default of the dashboard charts; an open end is unbounded.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(DashboardCacheService.MONTHLY_ROLLUPS)
+    public List<MonthlyRepaymentDTO> monthly(FinancialMetric metric, LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            from = LocalDate.now().withDayOfYear(1);
+            to = from.plusYears(1);
+        }
+        List<?> rows = entityManager.createNativeQuery("SELECT YEAR(rollup_date), MONTH(rollup_date), SUM(amount) FROM daily_financial_rollup " +
+                        "WHERE metric = :metric AND rollup_date >= :from AND rollup_date < :to " +
+                        "GROUP BY YEAR(rollup_date), MONTH(rollup_date) ORDER BY YEAR(rollup_date), MONTH(rollup_date)")
+                .setParameter("metric", metric.ordinal())
+                .setParameter("from", from != null ? from : LocalDate.EPOCH)
+                .setParameter("to", to != null ? to : LocalDate.of(9999, 1, 1))
+                .getResultList();
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .map(row -> new MonthlyRepaymentDTO(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), (BigDecimal) row[2]))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return entityManager.createNativeQuery("SELECT 1 FROM daily_financial_rollup LIMIT 1").getResultList().isEmpty();
+    }
+
+    /**
+     * Recomputes every metric for the half-open day range [from, to) from the source tables.
+     * Postings that commit while the rebuild runs may be counted twice or not at all, so run it
+     * when the books are quiet.
+     */
+    @Transactional
+    public void rebuild(LocalDate from, LocalDate to) {
+        entityManager.createNativeQuery("DELETE FROM daily_financial_rollup WHERE rollup_date >= :from AND rollup_date < :to")
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+        SOURCES.forEach((metric, source) -> {
+            int days = entityManager.createNativeQuery("INSERT INTO daily_financial_rollup (metric, rollup_date, amount) " +
+                            "SELECT " + metric.ordinal() + ", s.rollup_day, s.rollup_amount FROM (" + source + ") s WHERE s.rollup_amount IS NOT NULL")
+                    .setParameter("from", from.atStartOfDay())
+                    .setParameter("to", to.atStartOfDay())
+                    .executeUpdate();
+            log.info("Rebuilt {} days of {} between {} and {}", days, metric, from, to);
+        });
+        eventPublisher.publishEvent(new DashboardCacheService.DataChanged("rollup rebuild"));
+    }
+}
@@ -4,12 +4,14 @@ import com.hygatech.loan_processor.dtos.GroupDto;
 import com.hygatech.loan_processor.entities.Group;
 import com.hygatech.loan_processor.repositories.GroupRepository;
 import com.hygatech.loan_processor.utils.GroupUtil;
+import com.hygatech.loan_processor.utils.KeysetPage;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -24,8 +26,10 @@ public class GroupService {
         return GroupUtil.toDto(repository.save(group));
     }
 
-    public Stream<GroupDto> all(){
-        return repository.findAll().stream().map(GroupUtil::toDto);
+    public KeysetPage<GroupDto> all(String after, Integer limit){
+        int pageSize = KeysetPage.limit(limit);
+        List<Group> rows = repository.findByIdGreaterThanOrderByIdAsc(KeysetPage.afterId(after), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, Group::getId, GroupUtil::toDto);
     }
 
     public GroupDto find(Long id){
@@ -0,0 +1,142 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.entities.*;
+import com.hygatech.loan_processor.repositories.JournalEntryRepository;
+import com.hygatech.loan_processor.utils.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the double-entry journal and answers balance-as-of questions from the daily
+ * snapshots. {@code Account.balance} stays the cached current balance; the journal is the
+ * record it can be checked against.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalService {
+    private static final LocalDateTime JOURNAL_START = LocalDate.of(1970, 1, 1).atStartOfDay();
+
+    private final JournalEntryRepository repository;
+
+    /**
+     * Journals ledger rows, one balanced posting per trx_no. The rows of a trx_no become customer
+     * account legs that offset each other, e.g. the savings debit and loan credit of a repayment;
+     * whatever they leave unbalanced goes to {@code differenceLedger}, or fails the posting when that
+     * is null because the rows are an internal transfer that must balance on its own.
+     */
+    @Transactional
+    public void record(List<Transaction> transactions, LedgerCode differenceLedger) {
+        Map<String, List<Leg>> postings = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            postings.computeIfAbsent(transaction.getTrxNo(), trxNo -> new ArrayList<>())
+                    .add(new Leg(transaction.getAccount(), transaction.getAmount(), transaction.getDescription()));
+        }
+        List<JournalEntry> entries = new ArrayList<>(transactions.size() + postings.size());
+        LocalDateTime postedAt = LocalDateTime.now();
+        postings.forEach((trxNo, legs) -> addPosting(entries, trxNo, legs, differenceLedger, postedAt));
+        repository.saveAll(entries);
+    }
+
+    /** Journals a balance change that has no row in the transactions table, e.g. a commission. */
+    @Transactional
+    public void post(String trxNo, Account account, Money amount, LedgerCode differenceLedger, String description) {
+        post(trxNo, List.of(new Leg(account, amount, description)), differenceLedger);
+    }
+
+    /** Journals several balance changes under one trx_no, e.g. both accounts of a liquidation. */
+    @Transactional
+    public void post(String trxNo, List<Leg> legs, LedgerCode differenceLedger) {
+        List<JournalEntry> entries = new ArrayList<>(legs.size() + 1);
+        addPosting(entries, trxNo, legs, differenceLedger, LocalDateTime.now());
+        repository.saveAll(entries);
+    }
+
+    /** Balance at the end of {@code date}: the latest snapshot on or before it plus later movements. */
+    @Transactional(readOnly = true)
+    public BigDecimal balanceAsOf(Long accountId, LocalDate date) {
+        BigDecimal opening = BigDecimal.ZERO;
+        LocalDateTime from = JOURNAL_START;
+        List<Object[]> snapshot = repository.findLatestSnapshot(accountId, date);
+        if (!snapshot.isEmpty()) {
+            Object[] row = snapshot.getFirst();
+            opening = (BigDecimal) row[1];
+            from = toLocalDate(row[0]).plusDays(1).atStartOfDay();
+        }
+        BigDecimal movements = repository.sumAccountMovements(accountId, from, date.plusDays(1).atStartOfDay());
+        return opening.add(movements);
+    }
+
+    /** Snapshots every day after the last snapshot up to and including yesterday. */
+    @Scheduled(cron = "${ledger.snapshot.cron:0 5 0 * * *}")
+    @Transactional
+    public void takeDailySnapshots() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate last = repository.findLastSnapshotDate();
+        LocalDate day = last != null ? last.plusDays(1) : yesterday;
+        for (; !day.isAfter(yesterday); day = day.plusDays(1)) {
+            int accounts = repository.writeSnapshot(day, day.minusDays(1), day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+            log.info("Balance snapshot for {} written for {} accounts", day, accounts);
+        }
+    }
+
+    private void addPosting(List<JournalEntry> entries, String trxNo, List<Leg> legs,
+                            LedgerCode differenceLedger, LocalDateTime postedAt) {
+        Money net = Money.ZERO;
+        String description = null;
+        int first = entries.size();
+        for (Leg leg : legs) {
+            if (leg.amount().isZero()) {
+                continue;
+            }
+            // A loan account is an asset: its balance grows with debits, a savings account's with credits
+            boolean loan = leg.account().getAccountType() == AccountType.LOAN;
+            boolean credit = leg.amount().isPositive() != loan;
+            Money magnitude = leg.amount().isNegative() ? leg.amount().negate() : leg.amount();
+            entries.add(new JournalEntry(null, trxNo, loan ? LedgerCode.LOAN_ACCOUNT : LedgerCode.CUSTOMER_ACCOUNT,
+                    leg.account().getId(), credit ? TransactionType.credit : TransactionType.debit, magnitude,
+                    leg.description(), postedAt));
+            net = credit ? net.plus(magnitude) : net.minus(magnitude);
+            description = description == null ? leg.description() : description;
+        }
+        if (!net.isZero()) {
+            if (differenceLedger == null) {
+                throw new IllegalStateException("Journal posting " + trxNo + " is unbalanced by " + net);
+            }
+            entries.add(new JournalEntry(null, trxNo, differenceLedger, null,
+                    net.isPositive() ? TransactionType.debit : TransactionType.credit,
+                    net.isPositive() ? net : net.negate(), description, postedAt));
+        }
+        assertBalanced(trxNo, entries.subList(first, entries.size()));
+    }
+
+    private void assertBalanced(String trxNo, List<JournalEntry> posting) {
+        Money sum = Money.ZERO;
+        for (JournalEntry entry : posting) {
+            sum = entry.getSide() == TransactionType.credit ? sum.plus(entry.getAmount()) : sum.minus(entry.getAmount());
+        }
+        if (!sum.isZero()) {
+            throw new IllegalStateException("Journal posting " + trxNo + " does not sum to zero: " + sum);
+        }
+    }
+
+    /** One customer account's balance change within a posting; positive raises the balance. */
+    public record Leg(Account account, Money amount, String description) {
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
@@ -4,12 +4,14 @@ import com.hygatech.loan_processor.dtos.LoanProductDto;
 import com.hygatech.loan_processor.entities.LoanProduct;
 import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
 import com.hygatech.loan_processor.repositories.LoanProductRepository;
+import com.hygatech.loan_processor.utils.KeysetPage;
 import com.hygatech.loan_processor.utils.LoanProductUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,8 +29,10 @@ public class LoanProductService {
 
     }
 
-    public Stream<LoanProductDto> all(){
-        return repository.findAll().stream().map(LoanProductUtil::toDto);
+    public KeysetPage<LoanProductDto> all(String after, Integer limit){
+        int pageSize = KeysetPage.limit(limit);
+        List<LoanProduct> rows = repository.findByIdGreaterThanOrderByIdAsc(KeysetPage.afterId(after), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, LoanProduct::getId, LoanProductUtil::toDto);
     }
 
     public LoanProductDto find(Long id){
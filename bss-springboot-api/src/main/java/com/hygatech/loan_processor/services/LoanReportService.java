@@ -4,6 +4,7 @@ import com.hygatech.loan_processor.dtos.LoanReportResponse;
 import com.hygatech.loan_processor.dtos.MonthlyRepaymentDTO;
 import com.hygatech.loan_processor.dtos.RepaymentReportRequest;
 import com.hygatech.loan_processor.dtos.ReportRequest;
+import com.hygatech.loan_processor.entities.FinancialMetric;
 import com.hygatech.loan_processor.entities.LoanRepayment;
 import com.hygatech.loan_processor.repositories.LoanApplicationRepository;
 import com.hygatech.loan_processor.repositories.LoanRepaymentRepository;
@@ -23,6 +24,7 @@ import java.util.stream.Stream;
 public class LoanReportService {
     private final LoanApplicationRepository repository;
     private final LoanRepaymentRepository repaymentRepository;
+    private final FinancialRollupService rollupService;
 
     public Stream<LoanReportResponse> findByCriteria(ReportRequest request){
         return repository.findAll(LoanSpecifications.byCriteria(
@@ -44,16 +46,11 @@ public class LoanReportService {
         )).stream();
     }
 
-    public Stream<MonthlyRepaymentDTO> getMonthlyYearInterest(){
-        int currentYear = LocalDate.now().getYear();
-        return repaymentRepository.findMonthlyInterestByYear(currentYear).stream();
-
+    public Stream<MonthlyRepaymentDTO> getMonthlyInterest(LocalDate from, LocalDate to){
+        return rollupService.monthly(FinancialMetric.INTEREST_INCOME, from, to).stream();
     }
 
-    public Stream<MonthlyRepaymentDTO> getMonthlyYearFees(){
-        int currentYear = LocalDate.now().getYear();
-        System.out.println("Current year: " + currentYear);
-        return repository.findMonthlyFeeIncomeByYear((Integer) currentYear).stream();
-
+    public Stream<MonthlyRepaymentDTO> getMonthlyFees(LocalDate from, LocalDate to){
+        return rollupService.monthly(FinancialMetric.FEE_INCOME, from, to).stream();
     }
 }
@@ -4,15 +4,18 @@ import com.hygatech.loan_processor.entities.Message;
 import com.hygatech.loan_processor.entities.MessageType;
 import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
 import com.hygatech.loan_processor.repositories.MessageRepository;
+import com.hygatech.loan_processor.utils.KeysetPage;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -30,8 +33,10 @@ public class MessageService {
         return repository.save(message);
     }
 
-    public Stream<Message> all(){
-        return repository.findAll().stream();
+    public KeysetPage<Message> all(String after, Integer limit){
+        int pageSize = KeysetPage.limit(limit);
+        List<Message> rows = repository.findByIdGreaterThanOrderByIdAsc(KeysetPage.afterId(after), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, Message::getId, Function.identity());
     }
 
     public Message findByType(MessageType type){
@@ -0,0 +1,119 @@
+package com.hygatech.loan_processor.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hygatech.loan_processor.dtos.TransactionDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only log of one posting shard, one JSON line per record. An ACCEPTED record is forced to
+ * disk before the request is acknowledged; a DONE record follows once the posting has been
+ * committed or rejected, carrying the reason when it was rejected. On startup every ACCEPTED
+ * record without a DONE is replayed.
+ */
+class PostingWal implements Closeable {
+    enum Op {ACCEPTED, DONE}
+
+    record Entry(Op op, String trxNo, TransactionDto request, String error) {
+    }
+
+    /** What a scan of the log finds: postings to replay and rejected postings with their reason. */
+    record Recovery(List<Entry> pending, List<Entry> failed) {
+    }
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+
+    PostingWal(Path path, ObjectMapper objectMapper) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /** Accepted records that never got a DONE, in the order they were accepted, and the rejected ones. */
+    Recovery recover() throws IOException {
+        Map<String, Entry> pending = new LinkedHashMap<>();
+        Map<String, Entry> failed = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Entry entry;
+            try {
+                entry = objectMapper.readValue(line, Entry.class);
+            } catch (IOException ex) {
+                // A torn last line from a crash mid-write was never acknowledged
+                continue;
+            }
+            if (entry.op() == Op.ACCEPTED) {
+                pending.put(entry.trxNo(), entry);
+            } else {
+                pending.remove(entry.trxNo());
+                if (entry.error() != null) {
+                    failed.put(entry.trxNo(), entry);
+                }
+            }
+        }
+        return new Recovery(List.copyOf(pending.values()), List.copyOf(failed.values()));
+    }
+
+    synchronized void accepted(String trxNo, TransactionDto request) {
+        write(List.of(new Entry(Op.ACCEPTED, trxNo, request, null)));
+    }
+
+    /** Marks postings finished; {@code errors} holds the reason of each one that was rejected. */
+    synchronized void done(Collection<String> trxNos, Map<String, String> errors) {
+        write(trxNos.stream().map(trxNo -> new Entry(Op.DONE, trxNo, null, errors.get(trxNo))).toList());
+    }
+
+    /**
+     * Drops the log once everything in it is DONE, keeping the DONE records of {@code failures} so
+     * rejected postings still report their reason after a restart.
+     */
+    synchronized void truncate(Map<String, String> failures) {
+        try {
+            channel.truncate(0);
+            if (failures.isEmpty()) {
+                channel.force(false);
+            } else {
+                write(failures.entrySet().stream().map(failure -> new Entry(Op.DONE, failure.getKey(), null, failure.getValue())).toList());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void write(List<Entry> entries) {
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (Entry entry : entries) {
+                lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,65 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.entities.Account;
+import com.hygatech.loan_processor.entities.AccountType;
+import com.hygatech.loan_processor.entities.LoanApplication;
+import com.hygatech.loan_processor.repositories.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the savings and loan accounts of a whole repayment chunk with two IN queries
+ * instead of two lookups per installment. A customer with two savings accounts, or a loan with
+ * two loan accounts, fails the chunk rather than debiting whichever account came first.
+ */
+@Service
+@RequiredArgsConstructor
+public class RepaymentAccountLoader {
+    private final AccountRepository accountRepository;
+
+    public ChunkAccounts load(Collection<LoanApplication> applications) {
+        Set<Long> customerIds = applications.stream().map(application -> application.getCustomer().getId()).collect(Collectors.toSet());
+        Set<Long> loanIds = applications.stream().map(LoanApplication::getId).collect(Collectors.toSet());
+
+        Map<Long, Account> savingsByCustomer = accountRepository.findAccountsByAccountTypeAndCustomerIdIn(AccountType.SAVINGS, customerIds)
+                .stream()
+                .collect(Collectors.toMap(account -> account.getCustomer().getId(), Function.identity(),
+                        (first, second) -> duplicate("savings accounts", "customer", first.getCustomer().getId(), first, second)));
+        Map<Long, Account> loanAccountsByLoan = accountRepository.findAccountsByLoanIdIn(loanIds)
+                .stream()
+                .collect(Collectors.toMap(Account::getLoanId, Function.identity(),
+                        (first, second) -> duplicate("loan accounts", "loan", first.getLoanId(), first, second)));
+
+        return new ChunkAccounts(savingsByCustomer, loanAccountsByLoan);
+    }
+
+    private static Account duplicate(String accounts, String owner, Long ownerId, Account first, Account second) {
+        throw new IllegalStateException("Multiple " + accounts + " for " + owner + " " + ownerId + ": "
+                + first.getId() + ", " + second.getId());
+    }
+
+    public record ChunkAccounts(Map<Long, Account> savingsByCustomer, Map<Long, Account> loanAccountsByLoan) {
+
+        public Account savingsAccount(LoanApplication application) {
+            Account account = savingsByCustomer.get(application.getCustomer().getId());
+            if (account == null) {
+                throw new RuntimeException("Savings account not found");
+            }
+            return account;
+        }
+
+        public Account loanAccount(LoanApplication application) {
+            Account account = loanAccountsByLoan.get(application.getId());
+            if (account == null) {
+                throw new RuntimeException("Loan account not found");
+            }
+            return account;
+        }
+    }
+}
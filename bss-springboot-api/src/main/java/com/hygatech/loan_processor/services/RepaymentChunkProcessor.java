@@ -0,0 +1,314 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.entities.*;
+import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
+import com.hygatech.loan_processor.repositories.LoanRepaymentRepository;
+import com.hygatech.loan_processor.repositories.RepaymentAllocationRepository;
+import com.hygatech.loan_processor.repositories.RepaymentDueQueueRepository;
+import com.hygatech.loan_processor.repositories.RepaymentJobChunkRepository;
+import com.hygatech.loan_processor.utils.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Posts the due installments of one chunk of loan applications. Every chunk runs in its
+ * own transaction so a failure only rolls back the loans of that chunk; the chunk checkpoint
+ * is written in the same transaction as the postings.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RepaymentChunkProcessor {
+    public static final List<RepaymentStatus> DUE_STATUSES = List.of(RepaymentStatus.PENDING, RepaymentStatus.DEFAULT);
+
+    private final LoanRepaymentRepository repaymentRepository;
+    private final RepaymentAllocationRepository allocationRepository;
+    private final RepaymentAccountLoader accountLoader;
+    private final TransactionService transactionService;
+    private final AccountBalanceService accountBalanceService;
+    private final RepaymentDueQueueService dueQueueService;
+    private final RepaymentDueQueueRepository queueRepository;
+    private final RepaymentJobChunkRepository chunkRepository;
+    private final FinancialRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${loan.repayment.sweep.settlement-mode:INSTALLMENT}")
+    private SettlementMode settlementMode;
+
+    public enum SettlementMode {
+        /** One savings debit and one loan credit per installment. */
+        INSTALLMENT,
+        /**
+         * One savings debit and one loan credit per loan, allocated oldest installment first; the
+         * split per installment is kept in {@link RepaymentAllocation} rows.
+         */
+        AGGREGATED
+    }
+
+    public record ChunkResult(long installments, long posted, long defaulted, Long lastRepaymentId) {
+    }
+
+    /**
+     * What a chunk writes once all its installments are allocated: the ledger rows, the
+     * installment allocations of aggregated credits and the net balance change per account.
+     * Entity balances are updated as payments are allocated, so later installments of the same
+     * customer see the reduced savings balance.
+     */
+    private record ChunkPostings(List<Transaction> transactions, List<RepaymentAllocation> allocations,
+                                 Map<Long, Money> savingsDebits, Map<Long, Money> loanPayments,
+                                 FinancialRollupService.Deltas rollups) {
+
+        ChunkPostings() {
+            this(new ArrayList<>(), new ArrayList<>(), new LinkedHashMap<>(), new LinkedHashMap<>(), new FinancialRollupService.Deltas());
+        }
+
+        void pay(Account savingsAccount, Account loanAccount, Money amount) {
+            savingsAccount.setBalance(savingsAccount.getBalance().minus(amount));
+            loanAccount.setBalance(loanAccount.getBalance().minus(amount));
+            savingsDebits.merge(savingsAccount.getId(), amount, Money::plus);
+            loanPayments.merge(loanAccount.getId(), amount, Money::plus);
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ChunkResult process(Long chunkId) {
+        // The row lock serializes concurrent attempts at the same chunk (e.g. a resume on another instance)
+        RepaymentJobChunk chunk = chunkRepository.findByIdForUpdate(chunkId)
+                .orElseThrow(() -> new ObjectNotFoundException("Repayment chunk not found"));
+        if (chunk.getStatus() == RepaymentChunkStatus.COMPLETED) {
+            return new ChunkResult(chunk.getInstallments(), chunk.getPosted(), chunk.getDefaulted(), chunk.getLastRepaymentId());
+        }
+
+        RepaymentJob job = chunk.getJob();
+        List<Long> applicationIds = queueRepository.findDueApplicationIdsBetween(
+                chunk.getFirstApplicationId(), chunk.getLastApplicationId(), job.getCutoff());
+        ChunkResult result = post(applicationIds, job.getCutoff(), job.getTrxNo());
+
+        chunk.setStatus(RepaymentChunkStatus.COMPLETED);
+        chunk.setInstallments(result.installments());
+        chunk.setPosted(result.posted());
+        chunk.setDefaulted(result.defaulted());
+        chunk.setLastRepaymentId(result.lastRepaymentId());
+        chunk.setAttempts(chunk.getAttempts() + 1);
+        chunk.setErrorMessage(null);
+        chunk.setCompletedAt(LocalDateTime.now());
+        chunkRepository.save(chunk);
+        if (result.installments() > 0) {
+            eventPublisher.publishEvent(new DashboardCacheService.DataChanged("repayment sweep"));
+        }
+        return result;
+    }
+
+    private ChunkResult post(List<Long> applicationIds, LocalDateTime cutoff, String transactionNumber) {
+        if (applicationIds.isEmpty()) {
+            return new ChunkResult(0, 0, 0, null);
+        }
+        List<LoanRepayment> repayments = repaymentRepository.findDueRepaymentsForApplications(applicationIds, DUE_STATUSES, cutoff);
+        RepaymentAccountLoader.ChunkAccounts accounts = accountLoader.load(repayments.stream().map(LoanRepayment::getApplication).toList());
+        ChunkPostings postings = new ChunkPostings();
+        long posted = 0;
+        long defaulted = 0;
+
+        if (settlementMode == SettlementMode.AGGREGATED) {
+            // Repayments arrive ordered by application id, so each loan is a contiguous run
+            int from = 0;
+            while (from < repayments.size()) {
+                LoanApplication application = repayments.get(from).getApplication();
+                int to = from;
+                while (to < repayments.size() && repayments.get(to).getApplication().getId().equals(application.getId())) {
+                    to++;
+                }
+                long loanPosted = settleLoan(application, repayments.subList(from, to), accounts, transactionNumber, postings);
+                posted += loanPosted;
+                defaulted += (to - from) - loanPosted;
+                from = to;
+            }
+        } else {
+            for (LoanRepayment loanRepayment : repayments) {
+
+                LoanApplication application = loanRepayment.getApplication();
+                Account savingsAccount = accounts.savingsAccount(application);
+                Account loanAccount = accounts.loanAccount(application);
+
+                // Calculate available payment amount (can't exceed totalDue)
+                Money paymentAmount = savingsAccount.getBalance().min(loanRepayment.getTotalDue());
+
+                if (!paymentAmount.isPositive()) {
+                    handleDefaultCase(loanRepayment, application);
+                    defaulted++;
+                    continue;
+                }
+
+                // Process payment
+                processPayment(loanRepayment, application, savingsAccount, loanAccount, paymentAmount, transactionNumber, postings);
+                posted++;
+            }
+        }
+
+        // One relative UPDATE per account; a savings balance drained concurrently fails the chunk
+        postings.savingsDebits().forEach((accountId, amount) -> {
+            if (!accountBalanceService.applyDebit(accountId, amount)) {
+                throw new RuntimeException("Insufficient balance on savings account " + accountId);
+            }
+        });
+        postings.loanPayments().forEach((accountId, amount) -> accountBalanceService.applyAdjustment(accountId, amount.negate()));
+        // Each payment is a savings debit against a loan credit, so the postings balance without a contra ledger
+        transactionService.createTransactions(postings.transactions(), null);
+        repaymentRepository.saveAll(repayments);
+        allocationRepository.saveAll(postings.allocations());
+        dueQueueService.refresh(applicationIds);
+        // Last, and in sorted key order, so the shared rollup rows are locked briefly and always in the same order
+        rollupService.apply(postings.rollups());
+        Long lastRepaymentId = repayments.stream().map(LoanRepayment::getId).max(Long::compare).orElse(null);
+        return new ChunkResult(repayments.size(), posted, defaulted, lastRepaymentId);
+    }
+
+    /**
+     * Allocates the savings balance across the loan's due installments oldest-first in memory and
+     * posts the total as one savings debit and one loan credit, with one allocation row per paid
+     * installment. Returns the number of installments that received a payment.
+     */
+    private long settleLoan(LoanApplication application, List<LoanRepayment> installments,
+                            RepaymentAccountLoader.ChunkAccounts accounts, String transactionNumber,
+                            ChunkPostings postings) {
+        Account savingsAccount = accounts.savingsAccount(application);
+        Account loanAccount = accounts.loanAccount(application);
+
+        List<LoanRepayment> oldestFirst = installments.stream()
+                .sorted(Comparator.comparing(LoanRepayment::getMaturityDate).thenComparing(LoanRepayment::getId))
+                .toList();
+
+        Money available = savingsAccount.getBalance();
+        Money settled = Money.ZERO;
+        List<RepaymentAllocation> allocations = new ArrayList<>();
+
+        for (LoanRepayment repayment : oldestFirst) {
+            Money paymentAmount = available.min(repayment.getTotalDue());
+            if (!paymentAmount.isPositive()) {
+                handleDefaultCase(repayment, application);
+                continue;
+            }
+            Money interestPortion = applyPayment(repayment, paymentAmount, postings);
+            available = available.minus(paymentAmount);
+            settled = settled.plus(paymentAmount);
+            allocations.add(new RepaymentAllocation(null, null, repayment, paymentAmount, interestPortion));
+        }
+
+        if (allocations.isEmpty()) {
+            return 0;
+        }
+
+        postings.pay(savingsAccount, loanAccount, settled);
+
+        String installmentCount = " (" + allocations.size() + " installments)";
+        Transaction loanCredit = transactionService.newTransaction(loanAccount, "Loan principal repayment" + installmentCount, settled.negate(), transactionNumber);
+        postings.transactions().add(transactionService.newTransaction(savingsAccount, "Loan repayment" + installmentCount, settled.negate(), transactionNumber));
+        postings.transactions().add(loanCredit);
+        allocations.forEach(allocation -> allocation.setTransaction(loanCredit));
+        postings.allocations().addAll(allocations);
+
+        closeIfPaidOff(application, loanAccount);
+        return allocations.size();
+    }
+
+    private void processPayment(LoanRepayment repayment, LoanApplication application,
+                                Account savingsAccount, Account loanAccount,
+                                Money paymentAmount, String transactionNumber,
+                                ChunkPostings postings) {
+        Money interestPortion = applyPayment(repayment, paymentAmount, postings);
+        Money principalPortion = paymentAmount.minus(interestPortion);
+
+        // Update accounts (a missing savings balance counts as zero)
+        postings.pay(savingsAccount, loanAccount, paymentAmount);
+
+        // Record transactions; they are inserted together at the end of the chunk
+        postings.transactions().add(transactionService.newTransaction(
+                savingsAccount,
+                "Loan repayment",
+                paymentAmount.negate(),
+                transactionNumber
+        ));
+
+        postings.transactions().add(transactionService.newTransaction(
+                loanAccount,
+                "Loan principal repayment",
+                principalPortion.plus(interestPortion).negate(),
+                transactionNumber
+        ));
+
+        closeIfPaidOff(application, loanAccount);
+    }
+
+    /**
+     * Applies a payment to the installment's running totals and marks it paid when nothing is
+     * left due, recording the paid installment in the daily rollup. Returns the part of the
+     * payment that went to interest and fees.
+     */
+    private Money applyPayment(LoanRepayment repayment, Money paymentAmount, ChunkPostings postings) {
+        // Calculate interest portion against the totals before this payment
+        Money interestPortion = calculateInterestPortion(repayment, paymentAmount);
+
+        // Update repayment tracking
+        Money totalPaid = repayment.getTotalPaid().plus(paymentAmount);
+        Money totalDue = repayment.getTotal().minus(totalPaid);
+        repayment.setTotalPaid(totalPaid);
+        repayment.setTotalInterestPaid(repayment.getTotalInterestPaid().plus(interestPortion));
+        repayment.setTotalDue(totalDue);
+
+        // Update status if fully paid
+        if (!totalDue.isPositive()) {
+            repayment.setStatus(RepaymentStatus.PAID);
+            repayment.setPaymentDate(LocalDateTime.now());
+            postings.rollups()
+                    .add(FinancialMetric.REPAYMENTS_PAID, repayment.getMaturityDate(), repayment.getTotal())
+                    .add(FinancialMetric.INTEREST_INCOME, repayment.getPaymentDate(), repayment.getInterest()
+                            .plus(repayment.getMonitoringFee())
+                            .plus(repayment.getProcessingFee()));
+        }
+
+        return interestPortion;
+    }
+
+    private void closeIfPaidOff(LoanApplication application, Account loanAccount) {
+        if (!loanAccount.getBalance().isPositive()) {
+            loanAccount.setAccountStatus(AccountStatus.CLOSED);
+            application.setStatus(LoanStatus.PAID_OFF);
+        }
+    }
+
+    private void handleDefaultCase(LoanRepayment repayment, LoanApplication application) {
+        Duration overdueDuration = Duration.between(repayment.getMaturityDate(), LocalDateTime.now());
+        repayment.setStatus(RepaymentStatus.DEFAULT);
+        repayment.setDaysOverdue(overdueDuration.toDays());
+
+        if (application.getMaturity().isBefore(LocalDateTime.now())) {
+            Duration loanOverdueDuration = Duration.between(application.getMaturity(), LocalDateTime.now());
+            application.setStatus(LoanStatus.DUE);
+            application.setDaysOverdue(loanOverdueDuration.toDays());
+        }
+    }
+
+    private Money calculateInterestPortion(LoanRepayment repayment, Money paymentAmount) {
+        // Remaining interest obligations first; missing components count as zero
+        Money remainingInterest = repayment.getInterest()
+                .plus(repayment.getMonitoringFee())
+                .plus(repayment.getProcessingFee())
+                .minus(repayment.getTotalInterestPaid());
+
+        // Pay interest first (can't be negative)
+        return paymentAmount.min(remainingInterest.max(Money.ZERO));
+    }
+}
@@ -0,0 +1,74 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.entities.RepaymentDueQueue;
+import com.hygatech.loan_processor.repositories.LoanRepaymentRepository;
+import com.hygatech.loan_processor.repositories.RepaymentDueQueueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Keeps one row per loan with an unpaid installment, pointing at its oldest unpaid maturity date.
+ * The sweep reads this table instead of range-scanning the full installment history.
+ */
+@Service
+@RequiredArgsConstructor
+public class RepaymentDueQueueService {
+    private final RepaymentDueQueueRepository queueRepository;
+    private final LoanRepaymentRepository repaymentRepository;
+
+    @Transactional
+    public void schedule(Long applicationId, LocalDateTime nextDueDate) {
+        queueRepository.save(new RepaymentDueQueue(applicationId, nextDueDate));
+    }
+
+    @Transactional
+    public void remove(Long applicationId) {
+        queueRepository.deleteById(applicationId);
+    }
+
+    /**
+     * Moves the pointer of each loan to its oldest remaining PENDING or DEFAULT installment, or
+     * drops the loan from the queue when everything has been paid.
+     */
+    @Transactional
+    public void refresh(Collection<Long> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return;
+        }
+        Map<Long, LocalDateTime> nextDueDates = new HashMap<>();
+        for (Object[] row : repaymentRepository.findNextDueDates(applicationIds, RepaymentChunkProcessor.DUE_STATUSES)) {
+            nextDueDates.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+
+        List<RepaymentDueQueue> entries = queueRepository.findAllById(applicationIds);
+        for (RepaymentDueQueue entry : entries) {
+            LocalDateTime nextDueDate = nextDueDates.get(entry.getApplicationId());
+            if (nextDueDate == null) {
+                queueRepository.delete(entry);
+            } else {
+                entry.setNextDueDate(nextDueDate);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long forEachDueApplication(LocalDateTime cutoff, LongConsumer consumer) {
+        long count = 0;
+        try (Stream<Long> applicationIds = queueRepository.streamDueApplicationIds(cutoff)) {
+            for (Long applicationId : (Iterable<Long>) applicationIds::iterator) {
+                consumer.accept(applicationId);
+                count++;
+            }
+        }
+        return count;
+    }
+}
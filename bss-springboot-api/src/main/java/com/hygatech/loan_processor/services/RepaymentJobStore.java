@@ -0,0 +1,202 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.dtos.RepaymentJobDto;
+import com.hygatech.loan_processor.entities.RepaymentChunkStatus;
+import com.hygatech.loan_processor.entities.RepaymentJob;
+import com.hygatech.loan_processor.entities.RepaymentJobChunk;
+import com.hygatech.loan_processor.entities.RepaymentJobStatus;
+import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
+import com.hygatech.loan_processor.repositories.RepaymentDueQueueRepository;
+import com.hygatech.loan_processor.repositories.RepaymentJobChunkRepository;
+import com.hygatech.loan_processor.repositories.RepaymentJobRepository;
+import com.hygatech.loan_processor.utils.GeneralUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Persists repayment jobs and their chunk checkpoints. Each method is its own transaction so the
+ * job table always reflects what has actually been committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class RepaymentJobStore {
+    public static final List<RepaymentJobStatus> UNFINISHED_STATUSES = List.of(RepaymentJobStatus.SUBMITTED, RepaymentJobStatus.RUNNING);
+    private static final List<RepaymentChunkStatus> RUNNABLE_CHUNK_STATUSES = List.of(RepaymentChunkStatus.PENDING, RepaymentChunkStatus.FAILED);
+    private static final int MAX_MESSAGE_LENGTH = 255;
+
+    private final RepaymentJobRepository jobRepository;
+    private final RepaymentJobChunkRepository chunkRepository;
+    private final RepaymentDueQueueRepository queueRepository;
+
+    @Value("${loan.repayment.sweep.chunk-size:200}")
+    private int chunkSize;
+
+    @Transactional
+    public RepaymentJob create() {
+        RepaymentJob job = new RepaymentJob();
+        job.setStatus(RepaymentJobStatus.SUBMITTED);
+        job.setCutoff(LocalDateTime.now());
+        job.setTrxNo(GeneralUtils.generateTransactionNumber());
+        job.setTotalLoans(0);
+        job.setTotalChunks(0);
+        job.setSubmittedAt(LocalDateTime.now());
+        return jobRepository.save(job);
+    }
+
+    /**
+     * Splits the loans that are due at the job's cutoff into chunk rows and moves the job to RUNNING.
+     * Planning commits atomically, so a job interrupted while planning is still SUBMITTED and is
+     * simply planned again.
+     */
+    @Transactional
+    public RepaymentJob plan(Long jobId) {
+        RepaymentJob job = getJob(jobId);
+        if (job.getStatus() != RepaymentJobStatus.SUBMITTED) {
+            return job;
+        }
+
+        List<RepaymentJobChunk> chunks = new ArrayList<>();
+        int totalLoans = 0;
+        try (Stream<Long> applicationIds = queueRepository.streamDueApplicationIds(job.getCutoff())) {
+            Iterator<Long> iterator = applicationIds.iterator();
+            RepaymentJobChunk chunk = null;
+            while (iterator.hasNext()) {
+                Long applicationId = iterator.next();
+                if (chunk == null || chunk.getLoans() == chunkSize) {
+                    chunk = newChunk(job, chunks.size(), applicationId);
+                    chunks.add(chunk);
+                }
+                chunk.setLastApplicationId(applicationId);
+                chunk.setLoans(chunk.getLoans() + 1);
+                totalLoans++;
+            }
+        }
+        chunkRepository.saveAll(chunks);
+
+        job.setStatus(RepaymentJobStatus.RUNNING);
+        job.setTotalLoans(totalLoans);
+        job.setTotalChunks(chunks.size());
+        job.setStartedAt(LocalDateTime.now());
+        return jobRepository.save(job);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findRunnableChunkIds(Long jobId) {
+        return chunkRepository.findChunkIdsByJobAndStatusIn(jobId, RUNNABLE_CHUNK_STATUSES);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markChunkFailed(Long chunkId, String message) {
+        chunkRepository.findById(chunkId).ifPresent(chunk -> {
+            if (chunk.getStatus() == RepaymentChunkStatus.COMPLETED) {
+                return;
+            }
+            chunk.setStatus(RepaymentChunkStatus.FAILED);
+            chunk.setAttempts(chunk.getAttempts() + 1);
+            chunk.setErrorMessage(message != null && message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message);
+        });
+    }
+
+    @Transactional
+    public RepaymentJob finish(Long jobId) {
+        RepaymentJob job = getJob(jobId);
+        boolean incomplete = !chunkRepository.findChunkIdsByJobAndStatusIn(jobId, RUNNABLE_CHUNK_STATUSES).isEmpty();
+        job.setStatus(incomplete ? RepaymentJobStatus.COMPLETED_WITH_ERRORS : RepaymentJobStatus.COMPLETED);
+        job.setFinishedAt(LocalDateTime.now());
+        return jobRepository.save(job);
+    }
+
+    /**
+     * Puts a finished job back to RUNNING so its FAILED chunks are retried. COMPLETED chunks are
+     * never executed again.
+     */
+    @Transactional
+    public RepaymentJob reopen(Long jobId) {
+        RepaymentJob job = getJob(jobId);
+        if (job.getStatus() == RepaymentJobStatus.COMPLETED_WITH_ERRORS) {
+            job.setStatus(RepaymentJobStatus.RUNNING);
+            job.setFinishedAt(null);
+        }
+        return jobRepository.save(job);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUnfinishedJobIds() {
+        return jobRepository.findRepaymentJobsByStatusIn(UNFINISHED_STATUSES).stream().map(RepaymentJob::getId).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public RepaymentJobDto status(Long jobId) {
+        RepaymentJob job = getJob(jobId);
+        RepaymentJobDto dto = RepaymentJobDto.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .cutoff(job.getCutoff())
+                .trxNo(job.getTrxNo())
+                .submittedAt(job.getSubmittedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .totalLoans(job.getTotalLoans())
+                .totalChunks(job.getTotalChunks())
+                .build();
+
+        for (Object[] row : chunkRepository.summarizeByStatus(jobId)) {
+            RepaymentChunkStatus status = (RepaymentChunkStatus) row[0];
+            int chunks = ((Long) row[1]).intValue();
+            int loans = ((Long) row[2]).intValue();
+            switch (status) {
+                case COMPLETED -> {
+                    dto.setCompletedChunks(chunks);
+                    dto.setProcessedLoans(loans);
+                    dto.setInstallments((Long) row[3]);
+                    dto.setPosted((Long) row[4]);
+                    dto.setDefaulted((Long) row[5]);
+                }
+                case FAILED -> {
+                    dto.setFailedChunks(chunks);
+                    dto.setFailedLoans(loans);
+                }
+                case PENDING -> {
+                    dto.setRemainingChunks(chunks);
+                    dto.setRemainingLoans(loans);
+                }
+            }
+        }
+
+        if (job.getStartedAt() != null) {
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+            long millis = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+            dto.setInstallmentsPerSecond(dto.getInstallments() * 1000.0 / millis);
+        }
+        return dto;
+    }
+
+    private RepaymentJob getJob(Long jobId) {
+        return jobRepository.findById(jobId).orElseThrow(() -> new ObjectNotFoundException("Repayment job not found"));
+    }
+
+    private RepaymentJobChunk newChunk(RepaymentJob job, int chunkNo, Long firstApplicationId) {
+        RepaymentJobChunk chunk = new RepaymentJobChunk();
+        chunk.setJob(job);
+        chunk.setChunkNo(chunkNo);
+        chunk.setFirstApplicationId(firstApplicationId);
+        chunk.setLastApplicationId(firstApplicationId);
+        chunk.setLoans(0);
+        chunk.setStatus(RepaymentChunkStatus.PENDING);
+        chunk.setInstallments(0L);
+        chunk.setPosted(0L);
+        chunk.setDefaulted(0L);
+        chunk.setAttempts(0);
+        return chunk;
+    }
+}
@@ -0,0 +1,97 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.dtos.RepaymentJobDto;
+import com.hygatech.loan_processor.entities.RepaymentJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs the repayment sweep as a background job. A job is planned into chunk rows of loan
+ * application ids; each chunk posts and records its checkpoint in one transaction on the bounded
+ * {@code repaymentSweepExecutor} pool, so an interrupted job is resumed by re-running only the
+ * chunks that never committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RepaymentSweepService {
+    private final RepaymentJobStore jobStore;
+    private final RepaymentChunkProcessor chunkProcessor;
+    private final ThreadPoolTaskExecutor repaymentSweepExecutor;
+    private final ThreadPoolTaskExecutor repaymentJobExecutor;
+
+    // Jobs currently executing in this instance, so a resume cannot schedule the same job twice
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public RepaymentJobDto submit() {
+        RepaymentJob job = jobStore.create();
+        schedule(job.getId());
+        return jobStore.status(job.getId());
+    }
+
+    public RepaymentJobDto resume(Long jobId) {
+        jobStore.reopen(jobId);
+        schedule(jobId);
+        return jobStore.status(jobId);
+    }
+
+    public RepaymentJobDto status(Long jobId) {
+        return jobStore.status(jobId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        for (Long jobId : jobStore.findUnfinishedJobIds()) {
+            log.info("Resuming repayment job {}", jobId);
+            schedule(jobId);
+        }
+    }
+
+    private void schedule(Long jobId) {
+        if (!activeJobs.add(jobId)) {
+            return;
+        }
+        repaymentJobExecutor.execute(() -> {
+            try {
+                run(jobId);
+            } catch (Exception ex) {
+                log.error("Repayment job {} stopped", jobId, ex);
+            } finally {
+                activeJobs.remove(jobId);
+            }
+        });
+    }
+
+    private void run(Long jobId) {
+        RepaymentJob job = jobStore.plan(jobId);
+
+        List<CompletableFuture<Void>> runs = new ArrayList<>();
+        for (Long chunkId : jobStore.findRunnableChunkIds(jobId)) {
+            runs.add(CompletableFuture
+                    .runAsync(() -> chunkProcessor.process(chunkId), repaymentSweepExecutor)
+                    .exceptionally(ex -> {
+                        log.error("Repayment chunk {} of job {} failed", chunkId, jobId, ex);
+                        jobStore.markChunkFailed(chunkId, ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage());
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(runs.toArray(CompletableFuture[]::new)).join();
+
+        job = jobStore.finish(jobId);
+
+        RepaymentJobDto status = jobStore.status(jobId);
+        log.info("Repayment job {} ({}) {}: {} installments of {} loans ({} installments/sec), {} of {} chunks failed",
+                jobId, job.getTrxNo(), job.getStatus(), status.getInstallments(), status.getProcessedLoans(),
+                String.format("%.1f", status.getInstallmentsPerSecond()), status.getFailedChunks(), status.getTotalChunks());
+    }
+}
@@ -0,0 +1,200 @@
+package com.hygatech.loan_processor.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hygatech.loan_processor.dtos.LoanReportResponse;
+import com.hygatech.loan_processor.dtos.RepaymentReportRequest;
+import com.hygatech.loan_processor.dtos.ReportRequest;
+import com.hygatech.loan_processor.dtos.TransactionDto;
+import com.hygatech.loan_processor.dtos.TransactionReportRequest;
+import com.hygatech.loan_processor.entities.LoanApplication;
+import com.hygatech.loan_processor.entities.LoanRepayment;
+import com.hygatech.loan_processor.entities.Transaction;
+import com.hygatech.loan_processor.specifications.LoanSpecifications;
+import com.hygatech.loan_processor.specifications.RepaymentSpecification;
+import com.hygatech.loan_processor.specifications.TransactionSpecification;
+import com.hygatech.loan_processor.utils.LoanApplicationUtil;
+import com.hygatech.loan_processor.utils.TransactionUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * CSV and NDJSON variants of the report endpoints. Rows are read through a forward-only result
+ * stream (server-side cursor, see {@code useCursorFetch}) and written as they arrive; the
+ * persistence context is cleared and the response flushed every {@code chunk-size} rows, so
+ * memory stays flat however many rows the report covers.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportExportService {
+    public enum Format {CSV, NDJSON}
+
+    private record Column<R>(String header, Function<R, Object> value) {
+    }
+
+    private static final List<Column<LoanReportResponse>> LOAN_COLUMNS = List.of(
+            new Column<>("id", LoanReportResponse::getId),
+            new Column<>("customer", loan -> loan.getCustomer() != null ? loan.getCustomer().getName() : null),
+            new Column<>("group", loan -> loan.getGroup() != null ? loan.getGroup().getName() : null),
+            new Column<>("product", loan -> loan.getLoanProduct() != null ? loan.getLoanProduct().getName() : null),
+            new Column<>("status", LoanReportResponse::getStatus),
+            new Column<>("amount", LoanReportResponse::getAmount),
+            new Column<>("amountApproved", LoanReportResponse::getAmountApproved),
+            new Column<>("tenorApproved", LoanReportResponse::getTenorApproved),
+            new Column<>("collateralDeposit", LoanReportResponse::getCollateralDeposit),
+            new Column<>("appliedAt", LoanReportResponse::getAppliedAt),
+            new Column<>("approvedAt", LoanReportResponse::getApprovedAt),
+            new Column<>("disbursedAt", LoanReportResponse::getDisbursedAt),
+            new Column<>("maturity", LoanReportResponse::getMaturity),
+            new Column<>("daysOverdue", LoanReportResponse::getDaysOverdue),
+            new Column<>("appliedBy", loan -> loan.getAppliedBy() != null ? loan.getAppliedBy().getName() : null)
+    );
+
+    private static final List<Column<LoanRepayment>> REPAYMENT_COLUMNS = List.of(
+            new Column<>("id", LoanRepayment::getId),
+            new Column<>("loanId", repayment -> repayment.getApplication() != null ? repayment.getApplication().getId() : null),
+            new Column<>("customer", repayment -> repayment.getApplication() != null && repayment.getApplication().getCustomer() != null
+                    ? repayment.getApplication().getCustomer().getName() : null),
+            new Column<>("status", LoanRepayment::getStatus),
+            new Column<>("maturityDate", LoanRepayment::getMaturityDate),
+            new Column<>("paymentDate", LoanRepayment::getPaymentDate),
+            new Column<>("principal", LoanRepayment::getPrincipal),
+            new Column<>("interest", LoanRepayment::getInterest),
+            new Column<>("monitoringFee", LoanRepayment::getMonitoringFee),
+            new Column<>("processingFee", LoanRepayment::getProcessingFee),
+            new Column<>("total", LoanRepayment::getTotal),
+            new Column<>("totalPaid", LoanRepayment::getTotalPaid),
+            new Column<>("totalDue", LoanRepayment::getTotalDue),
+            new Column<>("daysOverdue", LoanRepayment::getDaysOverdue)
+    );
+
+    private static final List<Column<TransactionDto>> TRANSACTION_COLUMNS = List.of(
+            new Column<>("id", TransactionDto::getId),
+            new Column<>("trxNo", TransactionDto::getTrxNo),
+            new Column<>("trxDate", TransactionDto::getTrxDate),
+            new Column<>("amount", TransactionDto::getAmount),
+            new Column<>("description", TransactionDto::getDescription),
+            new Column<>("accountNumber", trx -> trx.getAccount() != null ? trx.getAccount().getAccountNumber() : null),
+            new Column<>("accountName", trx -> trx.getAccount() != null ? trx.getAccount().getName() : null),
+            new Column<>("accountType", trx -> trx.getAccount() != null ? trx.getAccount().getAccountType() : null),
+            new Column<>("postedBy", trx -> trx.getUser() != null ? trx.getUser().getName() : null)
+    );
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${loan.report.export.chunk-size:1000}")
+    private int chunkSize;
+
+    public StreamingResponseBody loans(ReportRequest request, Format format) {
+        Specification<LoanApplication> spec = LoanSpecifications.byCriteria(
+                request.getStatus(), request.getAction(), request.getUserId(), request.getFromDate(), request.getToDate());
+        return export(LoanApplication.class, spec, LoanApplicationUtil::getReportResponse, LOAN_COLUMNS, format);
+    }
+
+    public StreamingResponseBody repayments(RepaymentReportRequest request, Format format) {
+        Specification<LoanRepayment> spec = RepaymentSpecification.byCriteria(
+                request.getStatus(), request.getDateType(), request.getFromDate(), request.getToDate());
+        return export(LoanRepayment.class, spec, Function.identity(), REPAYMENT_COLUMNS, format);
+    }
+
+    public StreamingResponseBody transactions(TransactionReportRequest request, Format format) {
+        Specification<Transaction> spec = TransactionSpecification.byCriteria(
+                request.getTrxType(), request.getTrxBy(), request.getFromDate(), request.getToDate());
+        return export(Transaction.class, spec, transaction -> TransactionUtil.toDto(transaction, transaction.getAccount()), TRANSACTION_COLUMNS, format);
+    }
+
+    private <E, R> StreamingResponseBody export(Class<E> type, Specification<E> spec, Function<E, R> mapper,
+                                                List<Column<R>> columns, Format format) {
+        return output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            try {
+                template.executeWithoutResult(tx -> {
+                    try (Stream<E> rows = stream(type, spec)) {
+                        if (format == Format.CSV) {
+                            writeCsvRow(writer, columns.stream().map(Column::header).toList());
+                        }
+                        long written = 0;
+                        Iterator<E> iterator = rows.iterator();
+                        while (iterator.hasNext()) {
+                            R row = mapper.apply(iterator.next());
+                            if (format == Format.CSV) {
+                                writeCsvRow(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+                            } else {
+                                writer.write(objectMapper.writeValueAsString(row));
+                                writer.write('\n');
+                            }
+                            if (++written % chunkSize == 0) {
+                                entityManager.clear();
+                                writer.flush();
+                            }
+                        }
+                        writer.flush();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+    }
+
+    private <E> Stream<E> stream(Class<E> type, Specification<E> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = criteriaBuilder.createQuery(type);
+        Root<E> root = query.from(type);
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query.select(root))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,221 @@
+package com.hygatech.loan_processor.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hygatech.loan_processor.dtos.ImportRowErrorDto;
+import com.hygatech.loan_processor.dtos.TransactionDto;
+import com.hygatech.loan_processor.dtos.TransactionImportReportDto;
+import com.hygatech.loan_processor.entities.TransactionType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports field collections from CSV or NDJSON. The upload is read one line at a time, each row is
+ * validated on its own, and valid rows are posted through {@link TransactionService#create} in
+ * batches of {@code loan.transaction.import.batch-size} per database transaction. When a batch
+ * fails, its rows are posted one by one so the report names exactly the rows that were rejected.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionImportService {
+    public enum Format {CSV, NDJSON}
+
+    private static final List<String> CSV_COLUMNS = List.of("accountId", "amount", "trxType", "description", "noOfDays", "commissionAmount", "userId");
+
+    private final TransactionService transactionService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${loan.transaction.import.batch-size:200}")
+    private int batchSize;
+
+    private record ImportRow(long row, TransactionDto request) {
+    }
+
+    public TransactionImportReportDto importTransactions(InputStream input, Format format) throws IOException {
+        long started = System.currentTimeMillis();
+        TransactionImportReportDto report = new TransactionImportReportDto();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = format == Format.CSV ? readHeader(reader) : Map.of();
+            String line;
+            long row = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                row++;
+                report.setTotalRows(row);
+                TransactionDto request;
+                try {
+                    request = format == Format.CSV ? parseCsv(line, header) : parseJson(line);
+                } catch (IOException | RuntimeException ex) {
+                    reject(report, row, "Unreadable row: " + ex.getMessage());
+                    continue;
+                }
+                String violations = validate(request);
+                if (violations != null) {
+                    reject(report, row, violations);
+                    continue;
+                }
+                batch.add(new ImportRow(row, request));
+                if (batch.size() == batchSize) {
+                    post(batch, report);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            post(batch, report);
+        }
+
+        report.setDurationMillis(System.currentTimeMillis() - started);
+        log.info("Imported {} of {} transaction rows in {} ms", report.getPosted(), report.getTotalRows(), report.getDurationMillis());
+        return report;
+    }
+
+    private void post(List<ImportRow> batch, TransactionImportReportDto report) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        try {
+            template.executeWithoutResult(tx -> batch.forEach(row -> transactionService.create(row.request())));
+            report.setPosted(report.getPosted() + batch.size());
+        } catch (RuntimeException batchFailure) {
+            for (ImportRow row : batch) {
+                try {
+                    template.executeWithoutResult(tx -> transactionService.create(row.request()));
+                    report.setPosted(report.getPosted() + 1);
+                } catch (RuntimeException ex) {
+                    reject(report, row.row(), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private String validate(TransactionDto request) {
+        if (request.getTrxType() == null) {
+            return "trxType: must be credit or debit";
+        }
+        // Includes the noOfDays bound of TransactionDto, so the row is reported instead of failing its batch
+        Set<ConstraintViolation<TransactionDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void reject(TransactionImportReportDto report, long row, String message) {
+        report.setFailed(report.getFailed() + 1);
+        report.getErrors().add(ImportRowErrorDto.builder().row(row).message(message).build());
+    }
+
+    private Map<String, Integer> readHeader(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return Map.of();
+        }
+        List<String> columns = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim(), i);
+        }
+        for (String required : List.of("accountId", "amount", "trxType", "description")) {
+            if (!header.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header must contain " + String.join(",", CSV_COLUMNS));
+            }
+        }
+        return header;
+    }
+
+    private TransactionDto parseCsv(String line, Map<String, Integer> header) {
+        List<String> fields = splitCsv(line);
+        TransactionDto request = new TransactionDto();
+        String accountId = field(fields, header, "accountId");
+        String amount = field(fields, header, "amount");
+        String trxType = field(fields, header, "trxType");
+        String noOfDays = field(fields, header, "noOfDays");
+        String commissionAmount = field(fields, header, "commissionAmount");
+        String userId = field(fields, header, "userId");
+
+        request.setAccountId(accountId == null ? null : Long.valueOf(accountId));
+        request.setAmount(amount == null ? null : new BigDecimal(amount));
+        request.setTrxType(trxType == null ? null : TransactionType.valueOf(trxType.toLowerCase()));
+        request.setDescription(field(fields, header, "description"));
+        request.setNoOfDays(noOfDays == null ? 1L : Long.valueOf(noOfDays));
+        request.setCommissionAmount(commissionAmount == null ? null : new BigDecimal(commissionAmount));
+        request.setUserId(userId == null ? null : Long.valueOf(userId));
+        return request;
+    }
+
+    private TransactionDto parseJson(String line) throws IOException {
+        TransactionDto request = objectMapper.readValue(line, TransactionDto.class);
+        // Rows reference accounts and users by id only
+        request.setAccount(null);
+        request.setUser(null);
+        if (request.getNoOfDays() == null) {
+            request.setNoOfDays(1L);
+        }
+        return request;
+    }
+
+    private String field(List<String> fields, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /** Splits one CSV record, honouring double-quoted fields and doubled quotes inside them. */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
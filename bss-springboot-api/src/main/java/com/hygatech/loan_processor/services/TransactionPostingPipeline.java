@@ -0,0 +1,295 @@
+package com.hygatech.loan_processor.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hygatech.loan_processor.dtos.PostingStatusDto;
+import com.hygatech.loan_processor.dtos.TransactionDto;
+import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
+import com.hygatech.loan_processor.exceptions.PostingBackpressureException;
+import com.hygatech.loan_processor.repositories.TransactionRepository;
+import com.hygatech.loan_processor.utils.GeneralUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional asynchronous mode for teller postings ({@code loan.transaction.async.enabled}).
+ * A request is validated, forced to the shard's {@link PostingWal} and queued; a single writer
+ * thread per shard drains its queue and commits up to {@code batch-size} postings in one
+ * database transaction. Accounts map to a fixed shard, so postings to one account are applied
+ * in the order they were accepted. A full queue rejects new requests instead of blocking.
+ * Rejected postings (validation, unknown account, insufficient balance) keep their reason in the
+ * log and in a bounded per-shard map. Any other failure, such as the database being unreachable,
+ * is retried with backoff and holds up the shard, so an accepted posting is never dropped for it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionPostingPipeline {
+    private final TransactionService transactionService;
+    private final TransactionRepository transactionRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${loan.transaction.async.enabled:false}")
+    private boolean enabled;
+
+    @Value("${loan.transaction.async.shards:4}")
+    private int shardCount;
+
+    @Value("${loan.transaction.async.queue-capacity:2000}")
+    private int queueCapacity;
+
+    @Value("${loan.transaction.async.batch-size:100}")
+    private int batchSize;
+
+    @Value("${loan.transaction.async.wal-dir:./data/posting-wal}")
+    private String walDir;
+
+    @Value("${loan.transaction.async.failed-retention:10000}")
+    private int failedRetention;
+
+    @Value("${loan.transaction.async.retry-backoff-ms:500}")
+    private long retryBackoffMillis;
+
+    @Value("${loan.transaction.async.retry-max-backoff-ms:30000}")
+    private long retryMaxBackoffMillis;
+
+    // QUEUED postings; failed ones live in their shard, committed ones are looked up by trxNo in the database
+    private final Map<String, PostingStatusDto> queued = new ConcurrentHashMap<>();
+    private final List<Shard> shards = new ArrayList<>();
+    private volatile boolean running;
+
+    private record PendingPosting(String trxNo, TransactionDto request, boolean replayed) {
+    }
+
+    private final class Shard {
+        private final PostingWal wal;
+        private final int capacity;
+        private final BlockingQueue<PendingPosting> queue;
+        private final Thread writer;
+        // ACCEPTED records in the log without a DONE yet; the log may only be truncated at zero
+        private int outstanding;
+        // Most recent rejections of this shard with their reason, oldest evicted first
+        private final Map<String, String> failures;
+
+        private Shard(int index, PostingWal wal, int replayed) {
+            this.wal = wal;
+            this.capacity = Math.max(1, queueCapacity / shardCount);
+            // Room for everything left over from the last run, which may exceed the configured capacity
+            this.queue = new ArrayBlockingQueue<>(Math.max(capacity, replayed));
+            this.writer = new Thread(this::drain, "posting-shard-" + index);
+            int retention = Math.max(1, failedRetention / shardCount);
+            this.failures = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > retention;
+                }
+            };
+        }
+
+        private String failure(String trxNo) {
+            synchronized (this) {
+                return failures.get(trxNo);
+            }
+        }
+
+        private void drain() {
+            List<PendingPosting> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    PendingPosting first = queue.poll(500, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    Map<String, String> errors = commit(batch);
+                    if (errors == null) {
+                        // Stopped while the database was failing; the batch stays outstanding and is replayed on the next start
+                        return;
+                    }
+                    wal.done(batch.stream().map(PendingPosting::trxNo).toList(), errors);
+                    synchronized (this) {
+                        outstanding -= batch.size();
+                        failures.putAll(errors);
+                        if (outstanding == 0) {
+                            wal.truncate(failures);
+                        }
+                    }
+                    batch.forEach(posting -> queued.remove(posting.trxNo()));
+                    batch.clear();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException ex) {
+                    // Leave the batch in the log; it stays outstanding, so the log is kept until it is replayed on the next start
+                    log.error("Posting shard {} failed to record a batch", writer.getName(), ex);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path directory = Files.createDirectories(Path.of(walDir));
+        running = true;
+        for (int i = 0; i < shardCount; i++) {
+            PostingWal wal = new PostingWal(directory.resolve("shard-" + i + ".wal"), objectMapper);
+            PostingWal.Recovery recovery = wal.recover();
+            Shard shard = new Shard(i, wal, recovery.pending().size());
+            recovery.failed().forEach(entry -> shard.failures.put(entry.trxNo(), entry.error()));
+            for (PostingWal.Entry entry : recovery.pending()) {
+                queued.put(entry.trxNo(), status(entry.trxNo(), PostingStatusDto.State.QUEUED, null));
+                shard.queue.add(new PendingPosting(entry.trxNo(), entry.request(), true));
+            }
+            shard.outstanding = recovery.pending().size();
+            if (recovery.pending().size() > shard.capacity) {
+                log.warn("Posting shard {} replays {} postings, above its capacity of {}", i, recovery.pending().size(), shard.capacity);
+            }
+            shards.add(shard);
+            shard.writer.start();
+        }
+        log.info("Async posting enabled with {} shards", shardCount);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        for (Shard shard : shards) {
+            shard.writer.join(TimeUnit.SECONDS.toMillis(30));
+            shard.wal.close();
+        }
+    }
+
+    public PostingStatusDto submit(TransactionDto request) {
+        if (!enabled) {
+            throw new IllegalStateException("Async posting is not enabled");
+        }
+        Set<ConstraintViolation<TransactionDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        // Only the ids are logged; the account and user are resolved again when the posting is applied
+        request.setAccount(null);
+        request.setUser(null);
+        String trxNo = GeneralUtils.generateTransactionNumber();
+        Shard shard = shards.get(Math.floorMod(request.getAccountId().hashCode(), shards.size()));
+        // Check capacity and log under the shard lock, so a request that is rejected never reaches the log
+        PostingStatusDto status = status(trxNo, PostingStatusDto.State.QUEUED, null);
+        synchronized (shard) {
+            if (shard.queue.size() >= shard.capacity) {
+                throw new PostingBackpressureException("Posting queue is full, retry later");
+            }
+            shard.wal.accepted(trxNo, request);
+            shard.outstanding++;
+            queued.put(trxNo, status);
+            shard.queue.add(new PendingPosting(trxNo, request, false));
+        }
+        return status;
+    }
+
+    public PostingStatusDto status(String trxNo) {
+        PostingStatusDto status = queued.get(trxNo);
+        if (status != null) {
+            return status;
+        }
+        for (Shard shard : shards) {
+            String error = shard.failure(trxNo);
+            if (error != null) {
+                return status(trxNo, PostingStatusDto.State.FAILED, error);
+            }
+        }
+        return transactionRepository.existsByTrxNoStartingWith(trxNo)
+                ? status(trxNo, PostingStatusDto.State.POSTED, null)
+                : status(trxNo, PostingStatusDto.State.UNKNOWN, null);
+    }
+
+    /**
+     * Commits the batch in one transaction. If any posting fails the whole group rolls back and
+     * each posting is retried alone, so only the rejected ones fail. Returns the reason of each
+     * rejected posting by trxNo, or {@code null} if the pipeline stopped before all were settled.
+     */
+    private Map<String, String> commit(List<PendingPosting> batch) throws InterruptedException {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Map<String, String> errors = new HashMap<>();
+        try {
+            template.executeWithoutResult(tx -> batch.forEach(posting -> post(posting, posting.replayed())));
+        } catch (RuntimeException groupFailure) {
+            for (PendingPosting posting : batch) {
+                long backoff = retryBackoffMillis;
+                while (true) {
+                    try {
+                        // The failed attempt may have committed before the connection was lost
+                        template.executeWithoutResult(tx -> post(posting, true));
+                        break;
+                    } catch (RuntimeException ex) {
+                        if (isRejection(ex)) {
+                            log.warn("Async posting {} rejected: {}", posting.trxNo(), ex.getMessage());
+                            errors.put(posting.trxNo(), String.valueOf(ex.getMessage()));
+                            break;
+                        }
+                        if (!running) {
+                            return null;
+                        }
+                        log.warn("Async posting {} failed, retrying in {} ms: {}", posting.trxNo(), backoff, ex.getMessage());
+                        Thread.sleep(backoff);
+                        backoff = Math.min(backoff * 2, retryMaxBackoffMillis);
+                    }
+                }
+            }
+        }
+        return errors;
+    }
+
+    private void post(PendingPosting posting, boolean mayHaveCommitted) {
+        // A replayed posting may have committed just before the crash that lost its DONE record
+        if (mayHaveCommitted && transactionRepository.existsByTrxNoStartingWith(posting.trxNo())) {
+            return;
+        }
+        transactionService.create(posting.request(), posting.trxNo());
+    }
+
+    /** Failures the posting itself causes, which fail the same way however often it is retried. */
+    private static boolean isRejection(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException
+                    || cause instanceof ObjectNotFoundException
+                    || cause instanceof IllegalArgumentException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PostingStatusDto status(String trxNo, PostingStatusDto.State state, String message) {
+        return PostingStatusDto.builder().trxNo(trxNo).status(state).message(message).build();
+    }
+}
@@ -5,46 +5,117 @@ import com.hygatech.loan_processor.entities.*;
 import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
 import com.hygatech.loan_processor.repositories.*;
 import com.hygatech.loan_processor.utils.GeneralUtils;
+import com.hygatech.loan_processor.utils.Money;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
+    private static final int MAX_JDBC_BATCH_SIZE = 1000;
+
     private final TransactionRepository repository;
     private final AccountRepository accountRepository;
     private final Validator validator;
+    private final AccountBalanceService accountBalanceService;
+    private final JournalService journalService;
     private final AdasheSetupRepository adasheSetupRepository;
     private final AdasheCommissionRepository adasheCommissionRepository;
 
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final FinancialRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void createTransaction(Account account, String description, Money amount, String trxNo){
+        Transaction saved = repository.save(newTransaction(account, description, amount, trxNo));
+        journalService.record(List.of(saved), LedgerCode.CASH_CLEARING);
+    }
 
-    public void createTransaction(Account account, String description, BigDecimal amount, String trxNo){
+    /**
+     * Builds a ledger row without saving it, for callers that post several rows together through
+     * {@link #createTransactions(List, LedgerCode)}.
+     */
+    public Transaction newTransaction(Account account, String description, Money amount, String trxNo){
         Transaction transaction = new Transaction();
         transaction.setAccount(account);
         transaction.setDescription(description);
         transaction.setAmount(amount);
         transaction.setTrxNo(trxNo);
         transaction.setTrxDate(LocalDateTime.now());
-        repository.save(transaction);
+        return transaction;
+    }
+
+    /**
+     * Saves ledger rows in one go. Transaction ids are assigned in memory, so Hibernate sends
+     * them as JDBC batches (see {@code hibernate.jdbc.batch_size}) instead of one INSERT per row.
+     * Rows sharing a trx_no are journaled as one posting; see {@link JournalService#record}.
+     */
+    @Transactional
+    public List<Transaction> createTransactions(List<Transaction> transactions, LedgerCode differenceLedger){
+        if (transactions.isEmpty()) {
+            return transactions;
+        }
+        // Widen the session's batch so a multi-day booking or a sweep chunk flushes as one batch
+        Session session = entityManager.unwrap(Session.class);
+        Integer batchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(Math.min(transactions.size(), MAX_JDBC_BATCH_SIZE));
+        try {
+            List<Transaction> saved = repository.saveAll(transactions);
+            journalService.record(saved, differenceLedger);
+            entityManager.flush();
+            return saved;
+        } finally {
+            session.setJdbcBatchSize(batchSize);
+        }
+    }
+
+    /**
+     * One row per contribution day, walking back from today and skipping Sundays. Rows are
+     * numbered {@code trxNo-1 .. trxNo-n} and all reference the same account and agent.
+     */
+    private List<Transaction> createAdasheContributions(Account account, User user, String description,
+                                                        Money dailyAmount, long noOfDays, String trxNo) {
+        List<Transaction> transactions = new ArrayList<>((int) noOfDays);
+        LocalDateTime date = LocalDateTime.now();
+        while (transactions.size() < noOfDays) {
+            if (date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                int day = transactions.size() + 1;
+                Transaction transaction = newTransaction(account, description + " (Day " + day + ")", dailyAmount, trxNo + "-" + day);
+                transaction.setTrxDate(date);
+                transaction.setUser(user);
+                transactions.add(transaction);
+            }
+            date = date.minusDays(1);
+        }
+        return createTransactions(transactions, LedgerCode.CASH_CLEARING);
     }
 
+    @Transactional
     public Transaction create(TransactionDto transactionDto) {
-        log.info("Creating transaction: {}", transactionDto);
-        String trxNo = GeneralUtils.generateTransactionNumber();
+        return create(transactionDto, GeneralUtils.generateTransactionNumber());
+    }
+
+    /** Posts with a transaction number assigned up front, e.g. by the async posting pipeline. */
+    @Transactional
+    public Transaction create(TransactionDto transactionDto, String trxNo) {
+        log.info("Creating transaction {}: {}", trxNo, transactionDto);
         Set<ConstraintViolation<TransactionDto>> violations = validator.validate(transactionDto);
         if (!violations.isEmpty()) {
             throw new ConstraintViolationException(violations);
@@ -57,38 +128,21 @@ public class TransactionService {
         }
 
         if (transactionDto.getTrxType() == TransactionType.credit && updateAccount.getAccountType() == AccountType.ADASHE) {
-            long noOfDays = transactionDto.getNoOfDays() != 0 ? transactionDto.getNoOfDays() : 1;
+            // Validated above to at most TransactionDto.MAX_NO_OF_DAYS; each day becomes its own row
+            long noOfDays = transactionDto.getNoOfDays() != null && transactionDto.getNoOfDays() != 0 ? transactionDto.getNoOfDays() : 1;
             AdasheSetup adasheSetup = getRecentAdasheSetUp();
 
-            BigDecimal dailyAmount = transactionDto.getAmount();
-            if (dailyAmount.compareTo(adasheSetup.getMinimumDeposit()) < 0) {
+            Money dailyAmount = Money.of(transactionDto.getAmount());
+            if (dailyAmount.compareTo(Money.of(adasheSetup.getMinimumDeposit())) < 0) {
                 throw new ObjectNotFoundException("Deposit insufficient");
             }
 
-            List<Transaction> transactions = new ArrayList<>();
-
-            List<Transaction> finalTransactions = transactions;
-            transactions = Stream.iterate(LocalDateTime.now(), date -> date.minusDays(1))
-                    .filter(date -> date.getDayOfWeek() != DayOfWeek.SUNDAY)
-                    .limit(noOfDays)
-                    .map(date -> {
-                        Transaction transaction = new Transaction();
-                        transaction.setTrxNo(trxNo + "-" + (finalTransactions.size() + 1));
-                        transaction.setDescription(transactionDto.getDescription() + " (Day " + (finalTransactions.size() + 1) + ")");
-                        transaction.setAccount(updateAccount);
-                        transaction.setUser(transactionDto.getUserId() != null ? getUser(transactionDto.getUserId()) : null);
-                        transaction.setAmount(dailyAmount);
-                        transaction.setTrxDate(date);
-                        return transaction;
-                    })
-                    .collect(Collectors.toList());
-
-            updateAccount.setBalance(updateAccount.getBalance().add(dailyAmount.multiply(BigDecimal.valueOf(noOfDays))));
-            accountRepository.save(updateAccount);
-
+            accountBalanceService.credit(updateAccount, dailyAmount.times(noOfDays));
 
-            List<Transaction> savedTransactions = repository.saveAll(transactions);
-            log.info("Save Transactions {}", savedTransactions);
+            List<Transaction> savedTransactions = createAdasheContributions(
+                    updateAccount, transactionDto.getUser(), transactionDto.getDescription(), dailyAmount, noOfDays, trxNo);
+            log.info("Saved {} Adashe contributions for account {}", savedTransactions.size(), updateAccount.getId());
+            eventPublisher.publishEvent(new DashboardCacheService.DataChanged("transaction"));
 
             return savedTransactions.getFirst();
         }
@@ -99,30 +153,34 @@ public class TransactionService {
         transaction.setDescription(transactionDto.getDescription());
         transaction.setTrxDate(LocalDateTime.now());
         transaction.setAccount(updateAccount);
-        transaction.setUser(transactionDto.getUserId() != null ? getUser(transactionDto.getUserId()) : null);
+        transaction.setUser(transactionDto.getUser());
 
-        BigDecimal commission = transactionDto.getCommissionAmount() != null ? transactionDto.getCommissionAmount() : BigDecimal.ZERO;
+        Money amount = Money.of(transactionDto.getAmount());
+        Money commission = Money.of(transactionDto.getCommissionAmount());
 
 
         if (transactionDto.getTrxType() == TransactionType.credit) {
-            transaction.setAmount(transactionDto.getAmount());
-            updateAccount.setBalance(updateAccount.getBalance().add(transactionDto.getAmount()));
+            transaction.setAmount(amount);
+            accountBalanceService.credit(updateAccount, amount);
         } else if (transactionDto.getTrxType() == TransactionType.debit) {
-            if (updateAccount.getAccountType() == AccountType.ADASHE) {
-                if(commission.compareTo(BigDecimal.ZERO) == 0) {
-                    throw new IllegalArgumentException("Commission amount is null");
-                }
-                saveCommission(updateAccount, transactionDto.getCommissionAmount(), trxNo);
+            if (updateAccount.getAccountType() == AccountType.ADASHE && commission.isZero()) {
+                throw new IllegalArgumentException("Commission amount is null");
             }
-            if ((transactionDto.getAmount().add(commission)).compareTo(updateAccount.getBalance()) > 0) {
+            // The overdraft check happens in the UPDATE itself, so concurrent debits cannot both pass it
+            if (!accountBalanceService.tryDebit(updateAccount, amount.plus(commission))) {
                 throw new ObjectNotFoundException("Insufficient Balance");
             }
-            transaction.setAmount(BigDecimal.ZERO.subtract(transactionDto.getAmount()));
-            updateAccount.setBalance(updateAccount.getBalance().subtract((transactionDto.getAmount().add(commission))));
+            if (updateAccount.getAccountType() == AccountType.ADASHE) {
+                saveCommission(updateAccount, transactionDto.getCommissionAmount(), trxNo);
+                journalService.post(trxNo, updateAccount, commission.negate(), LedgerCode.COMMISSION_INCOME, "Adashe commission");
+            }
+            transaction.setAmount(amount.negate());
         }
 
-        accountRepository.save(updateAccount);
-        return repository.save(transaction);
+        Transaction saved = repository.save(transaction);
+        journalService.record(List.of(saved), LedgerCode.CASH_CLEARING);
+        eventPublisher.publishEvent(new DashboardCacheService.DataChanged("transaction"));
+        return saved;
     }
 
 
@@ -145,6 +203,7 @@ public class TransactionService {
         adasheCommission.setTrxId(trxId);
         adasheCommission.setTrxDate(LocalDateTime.now());
         adasheCommissionRepository.save(adasheCommission);
+        rollupService.record(FinancialMetric.COMMISSION_INCOME, adasheCommission.getTrxDate(), Money.of(amount));
     }
 
 
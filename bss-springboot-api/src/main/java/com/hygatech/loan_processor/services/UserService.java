@@ -5,20 +5,22 @@ import com.hygatech.loan_processor.entities.User;
 import com.hygatech.loan_processor.exceptions.IncorrectPasswordException;
 import com.hygatech.loan_processor.exceptions.ObjectNotFoundException;
 import com.hygatech.loan_processor.repositories.UserRepository;
+import com.hygatech.loan_processor.utils.KeysetPage;
 import com.hygatech.loan_processor.utils.UserUtil;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -47,8 +49,10 @@ public class UserService {
         return RegistrationResponse.builder().user(savedUser).build();
     }
 
-    public Stream<UserDto> all(){
-        return repository.findAll().stream().map(UserUtil::toDto);
+    public KeysetPage<UserDto> all(String after, Integer limit){
+        int pageSize = KeysetPage.limit(limit);
+        List<User> rows = repository.findByIdGreaterThanOrderByIdAsc(KeysetPage.afterId(after), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, User::getId, UserUtil::toDto);
     }
 
     public UserDto find(Long id) {
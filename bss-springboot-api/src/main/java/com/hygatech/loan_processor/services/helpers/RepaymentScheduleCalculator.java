@@ -0,0 +1,87 @@
+package com.hygatech.loan_processor.services.helpers;
+
+import com.hygatech.loan_processor.entities.LoanApplication;
+import com.hygatech.loan_processor.entities.LoanProduct;
+import com.hygatech.loan_processor.entities.LoanRepayment;
+import com.hygatech.loan_processor.entities.RepaymentStatus;
+import com.hygatech.loan_processor.utils.Money;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the repayment total and the weekly installment of a loan from its product's rates,
+ * read on every call so a product update applies to the next disbursement.
+ */
+@Service
+public class RepaymentScheduleCalculator {
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    /**
+     * Loan totals (fees plus principal) and the per-installment split, rounded to 2 places.
+     * Every installment of a loan is the same, so the installment vector is a single row.
+     */
+    public record Schedule(BigDecimal total, int installments,
+                           BigDecimal interest, BigDecimal monitoringFee, BigDecimal processingFee,
+                           BigDecimal principal, BigDecimal installmentTotal) {
+
+        /** Weekly PENDING installments, the first one week after {@code start}. */
+        public List<LoanRepayment> repayments(LoanApplication application, LocalDateTime start) {
+            List<LoanRepayment> repayments = new ArrayList<>(installments);
+            Money interestAmount = Money.of(interest);
+            Money monitoringFeeAmount = Money.of(monitoringFee);
+            Money processingFeeAmount = Money.of(processingFee);
+            Money principalAmount = Money.of(principal);
+            Money installmentAmount = Money.of(installmentTotal);
+            LocalDateTime maturityDate = start;
+            for (int i = 0; i < installments; i++) {
+                maturityDate = maturityDate.plusDays(7);
+                LoanRepayment repayment = new LoanRepayment();
+                repayment.setApplication(application);
+                repayment.setInterest(interestAmount);
+                repayment.setStatus(RepaymentStatus.PENDING);
+                repayment.setMonitoringFee(monitoringFeeAmount);
+                repayment.setProcessingFee(processingFeeAmount);
+                repayment.setPrincipal(principalAmount);
+                repayment.setTotal(installmentAmount);
+                repayment.setTotalDue(installmentAmount);
+                repayment.setMaturityDate(maturityDate);
+                repayments.add(repayment);
+            }
+            return repayments;
+        }
+    }
+
+    public Schedule schedule(LoanApplication application, int numOfRepayments) {
+        LoanProduct product = application.getLoanProduct();
+        BigDecimal amount = application.getAmountApproved();
+        // amount * tenor is shared by the three fee components; BigDecimal multiplication is exact,
+        // so the products equal rate * amount * tenor computed in the original order
+        BigDecimal amountTimesTenor = amount.multiply(BigDecimal.valueOf(application.getTenorApproved()));
+
+        BigDecimal interest = rateFactor(product.getInterestRate()).multiply(amountTimesTenor);
+        BigDecimal monitoringFee = rateFactor(product.getMonitoringFeeRate()).multiply(amountTimesTenor);
+        BigDecimal processingFee = rateFactor(product.getProcessingFeeRate()).multiply(amountTimesTenor);
+        BigDecimal total = interest.add(monitoringFee).add(processingFee).add(amount);
+
+        BigDecimal n = BigDecimal.valueOf(numOfRepayments);
+        BigDecimal repaymentInterest = interest.divide(n, 2, RoundingMode.HALF_UP);
+        BigDecimal repaymentMonitoringFee = monitoringFee.divide(n, 2, RoundingMode.HALF_UP);
+        BigDecimal repaymentProcessingFee = processingFee.divide(n, 2, RoundingMode.HALF_UP);
+        BigDecimal principal = amount.divide(n, 2, RoundingMode.HALF_UP);
+        BigDecimal installmentTotal = repaymentInterest.add(repaymentMonitoringFee)
+                .add(repaymentProcessingFee).add(principal);
+
+        return new Schedule(total, numOfRepayments, repaymentInterest, repaymentMonitoringFee,
+                repaymentProcessingFee, principal, installmentTotal);
+    }
+
+    /** rate / 100 at scale 10, as the disbursement has always rounded it. */
+    private static BigDecimal rateFactor(Double rate) {
+        return BigDecimal.valueOf(rate).divide(HUNDRED, 10, RoundingMode.HALF_UP);
+    }
+}
@@ -3,24 +3,36 @@ package com.hygatech.loan_processor.services.implementations;
 import com.hygatech.loan_processor.dtos.*;
 import com.hygatech.loan_processor.entities.*;
 import com.hygatech.loan_processor.repositories.*;
+import com.hygatech.loan_processor.services.AccountBalanceService;
+import com.hygatech.loan_processor.services.AccountNumberAllocator;
+import com.hygatech.loan_processor.services.DashboardCacheService;
+import com.hygatech.loan_processor.services.DueRepaymentReader;
+import com.hygatech.loan_processor.services.FinancialRollupService;
+import com.hygatech.loan_processor.services.RepaymentDueQueueService;
+import com.hygatech.loan_processor.services.RepaymentSweepService;
 import com.hygatech.loan_processor.services.TransactionService;
+import com.hygatech.loan_processor.services.helpers.RepaymentScheduleCalculator;
 import com.hygatech.loan_processor.services.interfaces.LoanApplicationService;
 import com.hygatech.loan_processor.utils.GeneralUtils;
+import com.hygatech.loan_processor.utils.KeysetPage;
 import com.hygatech.loan_processor.utils.LoanApplicationUtil;
+import com.hygatech.loan_processor.utils.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -34,7 +46,15 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
     private final AccountRepository accountRepository;
     private final LoanRepaymentRepository repaymentRepository;
     private final TransactionService transactionService;
+    private final AccountBalanceService accountBalanceService;
     private final GroupRepository groupRepository;
+    private final RepaymentSweepService repaymentSweepService;
+    private final DueRepaymentReader dueRepaymentReader;
+    private final RepaymentDueQueueService repaymentDueQueueService;
+    private final RepaymentScheduleCalculator scheduleCalculator;
+    private final FinancialRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccountNumberAllocator accountNumberAllocator;
 
     @Transactional
     @Override
@@ -73,16 +93,16 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
 
             if (collateralDepositAccount == null){
                 collateralDepositAccount = new Account();
+                collateralDepositAccount.setAccountNumber(accountNumberAllocator.next());
                 collateralDepositAccount.setAccountType(AccountType.COLLATERAL_DEPOSIT);
                 collateralDepositAccount.setName(AccountType.COLLATERAL_DEPOSIT.toString());
                 collateralDepositAccount.setCustomer(customer);
                 collateralDepositAccount.setAccountStatus(AccountStatus.ACTIVE);
-                collateralDepositAccount.setBalance(requestDto.getCollateralDeposit());
+                collateralDepositAccount.setBalance(Money.of(requestDto.getCollateralDeposit()));
                 actualCd = requestDto.getCollateralDeposit();
 
             }else {
-                collateralDepositAccount.setBalance(collateralDepositAccount.getBalance().add(requestDto.getCollateralDeposit()));
-                actualCd = collateralDepositAccount.getBalance().add(requestDto.getCollateralDeposit());
+                actualCd = collateralDepositAccount.getBalance().toBigDecimal().add(requestDto.getCollateralDeposit());
             }
 
             if (actualCd.compareTo(expectedCollateralDeposit) < 0) {
@@ -90,12 +110,19 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
                 throw new RuntimeException("Collateral deposit not enough");
             }
 
+            boolean existingCdAccount = collateralDepositAccount.getId() != null;
             Account savedCdAccount = accountRepository.save(collateralDepositAccount);
+            if (existingCdAccount) {
+                accountBalanceService.credit(savedCdAccount, Money.of(requestDto.getCollateralDeposit()));
+            }
             if(requestDto.getCollateralDeposit().compareTo(BigDecimal.ZERO) > 0){
-                transactionService.createTransaction(savedCdAccount, "Collateral deposit", requestDto.getCollateralDeposit(), transactionNumber);
+                transactionService.createTransaction(savedCdAccount, "Collateral deposit", Money.of(requestDto.getCollateralDeposit()), transactionNumber);
             }
 
             LoanApplication saved = repository.save(application);
+            rollupService.record(FinancialMetric.FEE_INCOME, saved.getAppliedAt(),
+                    Money.of(saved.getFormsFee()).plus(Money.of(saved.getSearchFee())));
+            eventPublisher.publishEvent(new DashboardCacheService.DataChanged("loan application"));
             return LoanApplicationUtil.toDto(saved);
 
         } catch (RuntimeException ex) {
@@ -120,6 +147,7 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
             application.setTenorApproved(approvalDto.getTenorApproved());
             application.setAmountInWordsApproved(approvalDto.getAmountInWordsApproved());
             application.setStatus(LoanStatus.APPROVED);
+            eventPublisher.publishEvent(new DashboardCacheService.DataChanged("loan approval"));
 
             return LoanApplicationUtil.toDto(repository.save(application));
 
@@ -139,24 +167,32 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
         validateExistingLoan(loanApplication.getCustomer());
 
 
-        BigDecimal loanRepayment = calculateLoanRepayment(loanApplication);
         int numOfRepayments = loanApplication.getTenorApproved() * 4;
+        RepaymentScheduleCalculator.Schedule schedule = scheduleCalculator.schedule(loanApplication, numOfRepayments);
         LocalDateTime maturity = calculateMaturity(numOfRepayments);
 
+        List<Transaction> postings = new ArrayList<>();
         Account savingsAccount = getSavingsAccount(loanApplication.getCustomer());
-        disburseLoanToAccount(savingsAccount, loanApplication.getAmountApproved(), transactionNumber);
+        postings.add(disburseLoanToAccount(savingsAccount, loanApplication.getAmountApproved(), transactionNumber));
 
         int loanCycle = getNextLoanCycle(loanApplication.getCustomer());
 
         // Ensure loanApplication is saved before creating the loan account
         LoanApplication savedApplication = repository.save(loanApplication);
 
-        createLoanAccount(savedApplication, loanRepayment, loanCycle, transactionNumber);
+        postings.add(createLoanAccount(savedApplication, schedule.total(), loanCycle, transactionNumber));
+        // The loan account carries interest and fees on top of the disbursed amount; they go to income
+        transactionService.createTransactions(postings, LedgerCode.INTEREST_INCOME);
 
-        List<LoanRepayment> repayments = createRepayments(savedApplication, numOfRepayments);
+        List<LoanRepayment> repayments = schedule.repayments(savedApplication, LocalDateTime.now());
         repaymentRepository.saveAll(repayments);
+        FinancialRollupService.Deltas rollups = new FinancialRollupService.Deltas();
+        repayments.forEach(repayment -> rollups.add(FinancialMetric.REPAYMENTS_DUE, repayment.getMaturityDate(), repayment.getTotal()));
+        rollupService.apply(rollups);
+        repaymentDueQueueService.schedule(savedApplication.getId(), repayments.getFirst().getMaturityDate());
 
         updateLoanApplicationStatus(savedApplication, user, maturity);
+        eventPublisher.publishEvent(new DashboardCacheService.DataChanged("loan disbursement"));
 
         return LoanApplicationUtil.toDto(savedApplication);
     }
@@ -164,56 +200,33 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
 
 
     @Override
-    @Transactional(readOnly = true)
-    public Stream<LoanApplicationDto> all(){
-        return repository.findAll().stream().map(LoanApplicationUtil::toDto);
+    public KeysetPage<LoanApplicationDto> all(String after, Integer limit){
+        int pageSize = KeysetPage.limit(limit);
+        List<LoanApplication> rows = repository.findByIdGreaterThanOrderByIdAsc(KeysetPage.afterId(after), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, LoanApplication::getId, LoanApplicationUtil::toDto);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Stream<LoanRepayment> getExpectedRepayments(){
-        List<LoanRepayment> repayments = getDueLoanRepayments();
-        return repayments.stream();
+    public long getExpectedRepayments(Consumer<LoanRepayment> consumer){
+        return dueRepaymentReader.forEachDueRepayment(LocalDateTime.now(), consumer);
     }
 
 
 
     @Override
-    @Transactional
-    public Stream<LoanRepayment> repayLoan() {
-        List<LoanRepayment> repayments = getDueLoanRepayments();
-        List<LoanRepayment> updatedRepayments = new ArrayList<>();
-        String transactionNumber = GeneralUtils.generateTransactionNumber();
-
-        for (LoanRepayment loanRepayment : repayments) {
-
-            LoanApplication application = loanRepayment.getApplication();
-            Account savingsAccount = accountRepository.findAccountByAccountTypeAndCustomer(AccountType.SAVINGS, application.getCustomer())
-                    .orElseThrow(() -> new RuntimeException("Savings account not found"));
-            Account loanAccount = accountRepository.findAccountByLoanId(application.getId())
-                    .orElseThrow(() -> new RuntimeException("Loan account not found"));
-
-            // Calculate available payment amount (can't exceed totalDue)
-            BigDecimal paymentAmount = savingsAccount.getBalance().min(loanRepayment.getTotalDue());
-
-            if (paymentAmount.compareTo(BigDecimal.ZERO) <= 0) {
-                handleDefaultCase(loanRepayment, application);
-                updatedRepayments.add(loanRepayment);
-                continue;
-            }
-
-            // Process payment
-            processPayment(loanRepayment, application, savingsAccount, loanAccount, paymentAmount, transactionNumber);
-
-            updatedRepayments.add(loanRepayment);
-        }
-
-        return repaymentRepository.saveAll(updatedRepayments).stream();
+    public RepaymentJobDto repayLoan() {
+        return repaymentSweepService.submit();
     }
 
+    @Override
+    public RepaymentJobDto getRepaymentJob(Long jobId) {
+        return repaymentSweepService.status(jobId);
+    }
 
-
-
+    @Override
+    public RepaymentJobDto resumeRepaymentJob(Long jobId) {
+        return repaymentSweepService.resume(jobId);
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -236,7 +249,8 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
 
     @Override
     @Transactional(readOnly = true)
-    public Stream<CustomerLoanCountDTO> getTopCustomersWithHighestLoans(Integer number) {
+    @Cacheable(cacheNames = DashboardCacheService.TOP_LOAN_COUNTS, key = "#number")
+    public List<CustomerLoanCountDTO> getTopCustomersWithHighestLoans(Integer number) {
         List<Object[]> result = repository.findTopCustomersWithHighestLoans(PageRequest.of(0, number));
         Long totalCount = repository.countAllByStatusIn(List.of(LoanStatus.ACTIVE, LoanStatus.PAID_OFF));
 
@@ -247,23 +261,28 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
                     Double loanRatio = (loanCount.doubleValue() / totalCount.doubleValue()) * 100;
                     return new CustomerLoanCountDTO(customer, loanCount, loanRatio);
                 })
-                .toList().stream();
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Stream<CustomerTotalApprovedDTO> getTopCustomersByTotalApproved(Integer number) {
+    @Cacheable(cacheNames = DashboardCacheService.TOP_LOAN_AMOUNTS, key = "#number")
+    public List<CustomerTotalApprovedDTO> getTopCustomersByTotalApproved(Integer number) {
         List<Object[]> result = repository.findTopCustomersByTotalApproved(PageRequest.of(0, number));
         return result.stream()
                 .map(row -> new CustomerTotalApprovedDTO((Customer) row[0], BigDecimal.valueOf((Double) row[1])))
-                .toList().stream();
+                .toList();
     }
 
 
     @Override
     @Transactional(readOnly = true)
-    public Stream<LoanApplication> getMostRecentApplications(Integer number) {
-        return repository.findMostRecentApplications(PageRequest.of(0, number)).stream();
+    @Cacheable(cacheNames = DashboardCacheService.RECENT_APPLICATIONS, key = "#number")
+    public List<LoanApplicationDto> getMostRecentApplications(Integer number) {
+        // Cache the mapped DTOs, not the managed entities, so cached values never reach back into a session
+        return repository.findMostRecentApplications(PageRequest.of(0, number)).stream()
+                .map(LoanApplicationUtil::toDto)
+                .toList();
     }
 
     private Customer getCustomer(Long customerId){
@@ -312,29 +331,6 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
             throw new RuntimeException("Customer already has a running loan");
         }
     }
-    private BigDecimal calculateLoanRepayment(LoanApplication loanApplication) {
-        BigDecimal amount = loanApplication.getAmountApproved();
-        BigDecimal tenor = BigDecimal.valueOf(loanApplication.getTenorApproved());
-
-        BigDecimal interest = BigDecimal.valueOf(loanApplication.getLoanProduct().getInterestRate())
-                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP) // <- added scale + rounding
-                .multiply(amount)
-                .multiply(tenor);
-
-        BigDecimal monitoringFee = BigDecimal.valueOf(loanApplication.getLoanProduct().getMonitoringFeeRate())
-                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP)
-                .multiply(amount)
-                .multiply(tenor);
-
-        BigDecimal processingFee = BigDecimal.valueOf(loanApplication.getLoanProduct().getProcessingFeeRate())
-                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP)
-                .multiply(amount)
-                .multiply(tenor);
-
-
-        return interest.add(monitoringFee).add(processingFee).add(amount);
-    }
-
     private LocalDateTime calculateMaturity(int numOfRepayments) {
         return LocalDateTime.now().plusWeeks(numOfRepayments);
     }
@@ -345,76 +341,28 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
         }
         return savingsAccountOptional.get();
     }
-    private void disburseLoanToAccount(Account account, BigDecimal amountApproved, String trxNo) {
-        transactionService.createTransaction(account, "Loan disbursement", amountApproved, trxNo);
-        account.setBalance(account.getBalance().add(amountApproved));
-        accountRepository.save(account);
+    private Transaction disburseLoanToAccount(Account account, BigDecimal amountApproved, String trxNo) {
+        Money amount = Money.of(amountApproved);
+        accountBalanceService.credit(account, amount);
+        return transactionService.newTransaction(account, "Loan disbursement", amount, trxNo);
     }
     private int getNextLoanCycle(Customer customer) {
         List<Account> accountList = accountRepository.findAccountsByCustomerAndAccountType(customer, AccountType.LOAN);
         return accountList.size() + 1;
     }
-    private void createLoanAccount(LoanApplication loanApplication, BigDecimal loanRepayment, int loanCycle, String trxNo) {
+    private Transaction createLoanAccount(LoanApplication loanApplication, BigDecimal loanRepayment, int loanCycle, String trxNo) {
         Account account = new Account();
+        account.setAccountNumber(accountNumberAllocator.next());
         account.setCustomer(loanApplication.getCustomer());
         account.setName(loanApplication.getLoanProduct().getName());
-        account.setBalance(loanRepayment);
+        account.setBalance(Money.of(loanRepayment));
         account.setLoanCycle(loanCycle);
         account.setLoanId(loanApplication.getId());
         account.setAccountType(AccountType.LOAN);
         account.setAccountStatus(AccountStatus.ACTIVE);
         account = accountRepository.save(account);
 
-        transactionService.createTransaction(account, "Loan Disbursement", loanRepayment, trxNo);
-    }
-
-    private List<LoanRepayment> createRepayments(LoanApplication loanApplication, int numOfRepayments) {
-        BigDecimal amount = loanApplication.getAmountApproved();
-        BigDecimal tenor = BigDecimal.valueOf(loanApplication.getTenorApproved());
-        BigDecimal n = BigDecimal.valueOf(numOfRepayments);
-
-        BigDecimal interest = BigDecimal.valueOf(loanApplication.getLoanProduct().getInterestRate())
-                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP) // <- added scale + rounding
-                .multiply(amount)
-                .multiply(tenor);
-
-        BigDecimal monitoringFee = BigDecimal.valueOf(loanApplication.getLoanProduct().getMonitoringFeeRate())
-                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP)
-                .multiply(amount)
-                .multiply(tenor);
-
-        BigDecimal processingFee = BigDecimal.valueOf(loanApplication.getLoanProduct().getProcessingFeeRate())
-                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP)
-                .multiply(amount)
-                .multiply(tenor);
-
-
-        BigDecimal repaymentInterest = interest.divide(n, 2, RoundingMode.HALF_UP);
-        BigDecimal repaymentMonitoringFee = monitoringFee.divide(n, 2, RoundingMode.HALF_UP);
-        BigDecimal repaymentProcessingFee = processingFee.divide(n, 2, RoundingMode.HALF_UP);
-        BigDecimal principal = amount.divide(n, 2, RoundingMode.HALF_UP);
-        BigDecimal repaymentTotal = repaymentInterest.add(repaymentMonitoringFee)
-                .add(repaymentProcessingFee).add(principal);
-
-        List<LoanRepayment> repayments = new ArrayList<>();
-        LocalDateTime startDate = LocalDateTime.now();
-
-        for (int i = 0; i < numOfRepayments; i++) {
-            startDate = startDate.plusDays(7);
-            LoanRepayment repayment = new LoanRepayment();
-            repayment.setApplication(loanApplication);
-            repayment.setInterest(repaymentInterest);
-            repayment.setStatus(RepaymentStatus.PENDING);
-            repayment.setMonitoringFee(repaymentMonitoringFee);
-            repayment.setProcessingFee(repaymentProcessingFee);
-            repayment.setPrincipal(principal);
-            repayment.setTotal(repaymentTotal);
-            repayment.setTotalDue(repaymentTotal);
-            repayment.setMaturityDate(startDate);
-            repayments.add(repayment);
-        }
-
-        return repayments;
+        return transactionService.newTransaction(account, "Loan Disbursement", Money.of(loanRepayment), trxNo);
     }
 
     private void updateLoanApplicationStatus(LoanApplication loanApplication, User user, LocalDateTime maturity) {
@@ -424,16 +372,6 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
         loanApplication.setDisbursedBy(user);
     }
 
-    private List<LoanRepayment> getDueLoanRepayments() {
-        List<LoanRepayment> pendingRepayments = repaymentRepository.findLoanRepaymentsByStatusAndMaturityDateIsLessThanEqual(RepaymentStatus.PENDING, LocalDateTime.now());
-        List<LoanRepayment> defaultRepayments = repaymentRepository.findLoanRepaymentsByStatusAndMaturityDateIsLessThanEqual(RepaymentStatus.DEFAULT, LocalDateTime.now());
-        List<LoanRepayment> repayments = new ArrayList<>();
-        repayments.addAll(pendingRepayments);
-        repayments.addAll(defaultRepayments);
-
-        return repayments;
-    }
-
     private Group getGroup(Long groupId){
         Optional<Group> group = groupRepository.findById(groupId);
         if (group.isEmpty()){
@@ -443,104 +381,4 @@ public class LoanApplicationServiceImpl implements LoanApplicationService {
         return group.get();
     }
 
-    private void processPayment(LoanRepayment repayment, LoanApplication application,
-                                Account savingsAccount, Account loanAccount,
-                                BigDecimal paymentAmount, String transactionNumber) {
-        // Safely initialize all BigDecimal values
-        BigDecimal totalPaid = repayment.getTotalPaid() != null ?
-                repayment.getTotalPaid() : BigDecimal.ZERO;
-
-        BigDecimal total = repayment.getTotal() != null ?
-                repayment.getTotal() : BigDecimal.ZERO;
-
-        // Calculate interest and principal portions
-        BigDecimal interestPortion = calculateInterestPortion(repayment, paymentAmount);
-        BigDecimal principalPortion = paymentAmount.subtract(interestPortion);
-
-        // Update repayment tracking
-        repayment.setTotalPaid(totalPaid.add(paymentAmount));
-        repayment.setTotalInterestPaid(
-                (repayment.getTotalInterestPaid() != null ?
-                        repayment.getTotalInterestPaid() : BigDecimal.ZERO)
-                        .add(interestPortion)
-        );
-        repayment.setTotalDue(total.subtract(totalPaid.add(paymentAmount)));
-
-        // Update accounts (with null checks)
-        BigDecimal savingsBalance = savingsAccount.getBalance() != null ?
-                savingsAccount.getBalance() : BigDecimal.ZERO;
-        savingsAccount.setBalance(savingsBalance.subtract(paymentAmount));
-
-        BigDecimal loanBalance = loanAccount.getBalance() != null ?
-                loanAccount.getBalance() : BigDecimal.ZERO;
-        assert loanAccount.getBalance() != null;
-        loanAccount.setBalance(loanAccount.getBalance().subtract(paymentAmount));
-
-        // Record transactions
-        transactionService.createTransaction(
-                savingsAccount,
-                "Loan repayment",
-                paymentAmount.negate(),
-                transactionNumber
-        );
-
-        transactionService.createTransaction(
-                loanAccount,
-                "Loan principal repayment",
-                principalPortion.add(interestPortion).negate(),
-                transactionNumber
-        );
-
-        // Update status if fully paid
-        if (repayment.getTotalDue().compareTo(BigDecimal.ZERO) <= 0) {
-            repayment.setStatus(RepaymentStatus.PAID);
-            repayment.setPaymentDate(LocalDateTime.now());
-        }
-
-        // Check if loan is fully paid
-        if (loanAccount.getBalance().compareTo(BigDecimal.ZERO) <= 0) {
-            loanAccount.setAccountStatus(AccountStatus.CLOSED);
-            application.setStatus(LoanStatus.PAID_OFF);
-        }
-    }
-
-    private void handleDefaultCase(LoanRepayment repayment, LoanApplication application) {
-        Duration overdueDuration = Duration.between(repayment.getMaturityDate(), LocalDateTime.now());
-        repayment.setStatus(RepaymentStatus.DEFAULT);
-        repayment.setDaysOverdue(overdueDuration.toDays());
-
-        if (application.getMaturity().isBefore(LocalDateTime.now())) {
-            Duration loanOverdueDuration = Duration.between(application.getMaturity(), LocalDateTime.now());
-            application.setStatus(LoanStatus.DUE);
-            application.setDaysOverdue(loanOverdueDuration.toDays());
-        }
-    }
-
-    private BigDecimal calculateInterestPortion(LoanRepayment repayment, BigDecimal paymentAmount) {
-        // Safely initialize all BigDecimal values with defaults if null
-        BigDecimal totalInterestPaid = repayment.getTotalInterestPaid() != null ?
-                repayment.getTotalInterestPaid() : BigDecimal.ZERO;
-
-        BigDecimal interest = repayment.getInterest() != null ?
-                repayment.getInterest() : BigDecimal.ZERO;
-
-        BigDecimal monitoringFee = repayment.getMonitoringFee() != null ?
-                repayment.getMonitoringFee() : BigDecimal.ZERO;
-
-        BigDecimal processingFee = repayment.getProcessingFee() != null ?
-                repayment.getProcessingFee() : BigDecimal.ZERO;
-
-        // Calculate remaining interest obligations first
-        BigDecimal remainingInterest = interest
-                .add(monitoringFee)
-                .add(processingFee)
-                .subtract(totalInterestPaid);
-
-        // Pay interest first (can't be negative)
-
-        return paymentAmount.min(
-                remainingInterest.max(BigDecimal.ZERO)
-        );
-    }
-
 }
@@ -4,14 +4,22 @@ import com.hygatech.loan_processor.dtos.LoanLiquidationRequest;
 import com.hygatech.loan_processor.dtos.LoanLiquidationResponse;
 import com.hygatech.loan_processor.entities.*;
 import com.hygatech.loan_processor.repositories.*;
+import com.hygatech.loan_processor.services.AccountBalanceService;
+import com.hygatech.loan_processor.services.DashboardCacheService;
+import com.hygatech.loan_processor.services.FinancialRollupService;
+import com.hygatech.loan_processor.services.JournalService;
+import com.hygatech.loan_processor.services.RepaymentDueQueueService;
 import com.hygatech.loan_processor.services.helpers.ObjectValidator;
 import com.hygatech.loan_processor.services.interfaces.LoanLiquidationService;
+import com.hygatech.loan_processor.utils.GeneralUtils;
+import com.hygatech.loan_processor.utils.Money;
 import com.hygatech.loan_processor.utils.mappers.LoanLiquidationMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -29,8 +37,14 @@ public class LoanLiquidationServiceImpl implements LoanLiquidationService {
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
     private final ObjectValidator objectValidator;
+    private final RepaymentDueQueueService repaymentDueQueueService;
+    private final AccountBalanceService accountBalanceService;
+    private final JournalService journalService;
+    private final FinancialRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public LoanLiquidationResponse liquidateLoan(LoanLiquidationRequest request) {
         List<LoanRepayment> repaymentList = new ArrayList<>();
         log.info("Liquidating loan with request: {}", request);
@@ -41,66 +55,73 @@ public class LoanLiquidationServiceImpl implements LoanLiquidationService {
         List<LoanRepayment> repayments = getLoanRepayments(request.loanApplicationId());
         log.info("Repayments: {}", repayments);
 
-        BigDecimal totalPrincipal = calculateRemainingPrincipal(repayments);
+        Money totalPrincipal = calculateRemainingPrincipal(repayments);
 
         LoanLiquidation liquidation = loanLiquidationMapper.toEntity(request);
-        BigDecimal totalAmount = totalPrincipal.add(request.interestCharged());
-        liquidation.setAmount(totalAmount);
+        Money interestCharged = Money.of(request.interestCharged());
+        Money totalAmount = totalPrincipal.plus(interestCharged);
+        liquidation.setAmount(totalAmount.toBigDecimal());
 
         Account loanAccount = getAccountLoanAccount(application.getId());
         Account savingsAccount = getSavingsAccount(application.getCustomer());
 
-        log.info("Checking if savings account has sufficient balance for liquidation");
-        if (savingsAccount.getBalance().compareTo(totalAmount) < 0) {
+        // The conditional UPDATE is the balance check; a stale in-memory balance cannot let it overdraw
+        if (!accountBalanceService.tryDebit(savingsAccount, totalAmount)) {
             throw new IllegalArgumentException("Insufficient balance in savings account for liquidation");
         }
+        // Relative and conditional: a repayment posted since the read fails the liquidation instead of being lost,
+        // and the journal leg below reverses exactly the balance that was cleared
+        Money loanBalance = loanAccount.getBalance();
+        if (!accountBalanceService.tryClear(loanAccount, loanBalance)) {
+            throw new IllegalArgumentException("Loan account balance changed during liquidation, please retry");
+        }
 
-        savingsAccount.setBalance(savingsAccount.getBalance().subtract(totalAmount));
-        loanAccount.setBalance(BigDecimal.ZERO);
+        String trxNo = GeneralUtils.generateTransactionNumber();
+        // The savings debit settles the loan; charged interest above or below its balance adjusts interest income
+        journalService.post(trxNo, List.of(
+                new JournalService.Leg(savingsAccount, totalAmount.negate(), "Loan liquidation"),
+                new JournalService.Leg(loanAccount, loanBalance.negate(), "Loan liquidation")), LedgerCode.INTEREST_INCOME);
         loanAccount.setAccountStatus(AccountStatus.CLOSED);
         application.setStatus(LoanStatus.PAID_OFF);
 
-        BigDecimal remainingInterestToApply = request.interestCharged();
-        BigDecimal totalLoanInterest = BigDecimal.ZERO;
+        Money remainingInterestToApply = interestCharged;
+        FinancialRollupService.Deltas rollups = new FinancialRollupService.Deltas();
 
         for (LoanRepayment repayment : repayments) {
-            BigDecimal interest = repayment.getInterest();
-            BigDecimal monitoring = repayment.getMonitoringFee();
-            BigDecimal processing = repayment.getProcessingFee();
-            BigDecimal principal = repayment.getPrincipal();
-
-
+            Money interest = repayment.getInterest();
+            Money monitoring = repayment.getMonitoringFee();
+            Money processing = repayment.getProcessingFee();
+            Money principal = repayment.getPrincipal();
 
-            BigDecimal interestPaid = BigDecimal.ZERO;
-            BigDecimal monitoringPaid = BigDecimal.ZERO;
-            BigDecimal processingPaid = BigDecimal.ZERO;
+            Money interestPaid = Money.ZERO;
+            Money monitoringPaid = Money.ZERO;
+            Money processingPaid = Money.ZERO;
 
-            totalLoanInterest = totalLoanInterest.add(interest).add(monitoring).add(processing);
-
-            if (remainingInterestToApply.compareTo(BigDecimal.ZERO) > 0) {
+            if (remainingInterestToApply.isPositive()) {
                 interestPaid = remainingInterestToApply.min(interest);
-                repayment.setInterest(interest.subtract(interestPaid));
-                remainingInterestToApply = remainingInterestToApply.subtract(interestPaid);
+                repayment.setInterest(interest.minus(interestPaid));
+                remainingInterestToApply = remainingInterestToApply.minus(interestPaid);
             }
 
-            if (remainingInterestToApply.compareTo(BigDecimal.ZERO) > 0) {
+            if (remainingInterestToApply.isPositive()) {
                 monitoringPaid = remainingInterestToApply.min(monitoring);
-                repayment.setMonitoringFee(monitoring.subtract(monitoringPaid));
-                remainingInterestToApply = remainingInterestToApply.subtract(monitoringPaid);
+                repayment.setMonitoringFee(monitoring.minus(monitoringPaid));
+                remainingInterestToApply = remainingInterestToApply.minus(monitoringPaid);
             }
 
-            if (remainingInterestToApply.compareTo(BigDecimal.ZERO) > 0) {
+            if (remainingInterestToApply.isPositive()) {
                 processingPaid = remainingInterestToApply.min(processing);
-                repayment.setProcessingFee(processing.subtract(processingPaid));
-                remainingInterestToApply = remainingInterestToApply.subtract(processingPaid);
+                repayment.setProcessingFee(processing.minus(processingPaid));
+                remainingInterestToApply = remainingInterestToApply.minus(processingPaid);
             }
 
-            BigDecimal totalInterestPaid = interestPaid.add(monitoringPaid).add(processingPaid);
+            Money totalInterestPaid = interestPaid.plus(monitoringPaid).plus(processingPaid);
             repayment.setTotalInterestPaid(totalInterestPaid);
 
             repayment.setStatus(RepaymentStatus.PAID);
-            repayment.setTotalDue(BigDecimal.ZERO);
-            repayment.setTotalPaid(totalInterestPaid.add(principal));
+            repayment.setTotalDue(Money.ZERO);
+            rollups.add(FinancialMetric.REPAYMENTS_PAID, repayment.getMaturityDate(), repayment.getTotal());
+            repayment.setTotalPaid(totalInterestPaid.plus(principal));
 
             repaymentList.add(repayment);
         }
@@ -111,9 +132,10 @@ public class LoanLiquidationServiceImpl implements LoanLiquidationService {
         liquidation.setLoanAmount(application.getAmountApproved());
 
         loanRepaymentRepository.saveAll(repaymentList);
-        accountRepository.save(savingsAccount);
-        accountRepository.save(loanAccount);
+        rollupService.apply(rollups);
         loanApplicationRepository.save(application);
+        repaymentDueQueueService.remove(application.getId());
+        eventPublisher.publishEvent(new DashboardCacheService.DataChanged("loan liquidation"));
 
         LoanLiquidation saved = loanLiquidationRepository.save(liquidation);
         return loanLiquidationMapper.toResponse(saved);
@@ -143,16 +165,13 @@ public class LoanLiquidationServiceImpl implements LoanLiquidationService {
                 .orElseThrow(() -> new IllegalArgumentException("Savings account not found"));
     }
 
-    private BigDecimal calculateRemainingPrincipal(List<LoanRepayment> repayments) {
-        return repayments.stream()
-                .map(rep -> {
-                    BigDecimal principal = rep.getPrincipal() != null ? rep.getPrincipal() : BigDecimal.ZERO;
-                    BigDecimal principalPaid = (rep.getTotalPaid() != null ? rep.getTotalPaid() : BigDecimal.ZERO)
-                            .subtract(rep.getTotalInterestPaid() != null ? rep.getTotalInterestPaid() : BigDecimal.ZERO);
-                    return principal.subtract(principalPaid);
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .max(BigDecimal.ZERO); // Ensure non-negative
+    private Money calculateRemainingPrincipal(List<LoanRepayment> repayments) {
+        Money remaining = Money.ZERO;
+        for (LoanRepayment rep : repayments) {
+            Money principalPaid = rep.getTotalPaid().minus(rep.getTotalInterestPaid());
+            remaining = remaining.plus(rep.getPrincipal().minus(principalPaid));
+        }
+        return remaining.max(Money.ZERO); // Ensure non-negative
     }
 
 
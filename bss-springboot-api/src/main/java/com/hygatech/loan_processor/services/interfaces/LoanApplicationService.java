@@ -1,10 +1,12 @@
 package com.hygatech.loan_processor.services.interfaces;
 
 import com.hygatech.loan_processor.dtos.*;
-import com.hygatech.loan_processor.entities.LoanApplication;
 import com.hygatech.loan_processor.entities.LoanRepayment;
+import com.hygatech.loan_processor.utils.KeysetPage;
 import jakarta.transaction.Transactional;
 
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public interface LoanApplicationService {
@@ -15,11 +17,15 @@ public interface LoanApplicationService {
 
     LoanApplicationDto disburseLoan(LoanDisbursementDto disbursementDto);
 
-    Stream<LoanApplicationDto> all();
+    KeysetPage<LoanApplicationDto> all(String after, Integer limit);
 
-    Stream<LoanRepayment> getExpectedRepayments();
+    long getExpectedRepayments(Consumer<LoanRepayment> consumer);
 
-    Stream<LoanRepayment> repayLoan();
+    RepaymentJobDto repayLoan();
+
+    RepaymentJobDto getRepaymentJob(Long jobId);
+
+    RepaymentJobDto resumeRepaymentJob(Long jobId);
 
     Stream<LoanApplicationDto> getPendingLoans();
 
@@ -27,10 +33,10 @@ public interface LoanApplicationService {
 
     LoanApplicationDto find(Long id);
 
-    Stream<CustomerLoanCountDTO> getTopCustomersWithHighestLoans(Integer number);
+    List<CustomerLoanCountDTO> getTopCustomersWithHighestLoans(Integer number);
 
-    Stream<CustomerTotalApprovedDTO> getTopCustomersByTotalApproved(Integer number);
+    List<CustomerTotalApprovedDTO> getTopCustomersByTotalApproved(Integer number);
 
     @org.springframework.transaction.annotation.Transactional(readOnly = true)
-    Stream<LoanApplication> getMostRecentApplications(Integer number);
+    List<LoanApplicationDto> getMostRecentApplications(Integer number);
 }
@@ -15,12 +15,22 @@ public class LoanSpecifications {
 
     static {
         actionFieldMap.put("applied", "appliedBy");
-        actionFieldMap.put("approved", "approvedById");
-        actionFieldMap.put("disbursed", "disbursedById");
+        actionFieldMap.put("approved", "approvedBy");
+        actionFieldMap.put("disbursed", "disbursedBy");
     }
 
     public static Specification<LoanApplication> byCriteria(LoanStatus status, String action, Long userId, LocalDateTime fromDate, LocalDateTime toDate) {
         return (root, query, criteriaBuilder) -> {
+            // Load the users, customer, product and group in the same select; the page count query cannot fetch
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("appliedBy", JoinType.LEFT);
+                root.fetch("approvedBy", JoinType.LEFT);
+                root.fetch("disbursedBy", JoinType.LEFT);
+                root.fetch("customer", JoinType.LEFT);
+                root.fetch("loanProduct", JoinType.LEFT);
+                root.fetch("group", JoinType.LEFT);
+            }
+
             Predicate predicate = criteriaBuilder.conjunction();
 
             if (status != null) {
@@ -28,9 +38,10 @@ public class LoanSpecifications {
             }
 
             if (action != null && userId != null) {
+                // Compares the foreign key column itself, so {action}_by_id leads the index
                 String field = actionFieldMap.get(action);
                 if (field != null) {
-                    predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(root.get(field), userId));
+                    predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(root.get(field).get("id"), userId));
                 }
             }
 
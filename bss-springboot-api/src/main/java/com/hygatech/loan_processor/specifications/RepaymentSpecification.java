@@ -1,7 +1,10 @@
 package com.hygatech.loan_processor.specifications;
 
+import com.hygatech.loan_processor.entities.LoanApplication;
 import com.hygatech.loan_processor.entities.LoanRepayment;
 import com.hygatech.loan_processor.entities.RepaymentStatus;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 import org.slf4j.Logger;
@@ -18,6 +21,17 @@ public class RepaymentSpecification {
             logger.info("Creating specification with status: {}, dateType: {}, fromDate: {}, toDate: {}",
                     status, dateType, fromDate, toDate);
 
+            // Load the loan with its customer, users, product and group in the same select; the page count query cannot fetch
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                Fetch<LoanRepayment, LoanApplication> application = root.fetch("application", JoinType.LEFT);
+                application.fetch("customer", JoinType.LEFT);
+                application.fetch("appliedBy", JoinType.LEFT);
+                application.fetch("approvedBy", JoinType.LEFT);
+                application.fetch("disbursedBy", JoinType.LEFT);
+                application.fetch("loanProduct", JoinType.LEFT);
+                application.fetch("group", JoinType.LEFT);
+            }
+
             Predicate predicate = criteriaBuilder.conjunction();
 
             if (status != null && !status.isEmpty()) {
@@ -1,6 +1,10 @@
 package com.hygatech.loan_processor.specifications;
 
+import com.hygatech.loan_processor.entities.Account;
 import com.hygatech.loan_processor.entities.Transaction;
+import com.hygatech.loan_processor.utils.Money;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,14 +21,21 @@ public class TransactionSpecification {
             logger.info("Creating specification with trxType: {}, fromDate: {}, toDate: {}",
                     trxType, fromDate, toDate);
 
+            // Load the account, its customer and the user in the same select; the page count query cannot fetch
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                Fetch<Transaction, Account> account = root.fetch("account", JoinType.LEFT);
+                account.fetch("customer", JoinType.LEFT);
+                root.fetch("user", JoinType.LEFT);
+            }
+
             Predicate predicate = criteriaBuilder.conjunction();
 
             if (trxType != null && !trxType.isEmpty()) {
                 try {
                     if (trxType.equals("debit")) {
-                        predicate = criteriaBuilder.and(predicate, criteriaBuilder.lessThan(root.get("amount"), 0));
+                        predicate = criteriaBuilder.and(predicate, criteriaBuilder.lessThan(root.<Money>get("amount"), Money.ZERO));
                     } else if (trxType.equals("credit")) {
-                        predicate = criteriaBuilder.and(predicate, criteriaBuilder.greaterThan(root.get("amount"), 0));
+                        predicate = criteriaBuilder.and(predicate, criteriaBuilder.greaterThan(root.<Money>get("amount"), Money.ZERO));
                     }
                 } catch (IllegalArgumentException e) {
                     logger.error("Invalid status value: {}", trxType, e);
@@ -9,6 +9,8 @@ public class AccountUtil {
     public static AccountDto toDto(Account account){
         AccountDto dto = new AccountDto();
         BeanUtils.copyProperties(account, dto);
+        // copyProperties skips properties whose types differ
+        dto.setBalance(account.getBalance() == null ? null : account.getBalance().toBigDecimal());
         return dto;
     }
 }
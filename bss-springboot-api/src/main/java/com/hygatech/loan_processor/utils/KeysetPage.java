@@ -0,0 +1,63 @@
+package com.hygatech.loan_processor.utils;
+
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * One page of a list ordered by id. The cursor is an opaque token for the last id returned; the
+ * next page is read with {@code id > cursor}, so deep pages cost the same as the first one. List
+ * endpoints always page; a request without a limit gets {@link #DEFAULT_LIMIT} rows.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /** Id to continue after; ids start at 1, so the first page reads {@code id > 0}. */
+    public static long afterId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
+    public static int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Builds a page from rows read with {@code limit + 1}; the extra row only signals that
+     * another page exists and is not returned.
+     */
+    public static <E, T> KeysetPage<T> of(List<E> rows, int limit, Function<E, Long> id, Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encode(id.apply(page.getLast())) : null;
+        return new KeysetPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+
+    /** The items as a 200 response, with the cursor for the next page (if any) in {@link #NEXT_CURSOR_HEADER}. */
+    public ResponseEntity<Stream<T>> toResponse() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(items.stream());
+    }
+
+    private static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+}
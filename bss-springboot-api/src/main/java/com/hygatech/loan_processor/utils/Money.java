@@ -0,0 +1,110 @@
+package com.hygatech.loan_processor.utils;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of naira held as a whole number of kobo. Addition, subtraction and comparison are
+ * exact long arithmetic; anything that multiplies by a rate has to name its rounding mode.
+ * The posting entities map their DECIMAL(38,2) columns directly through {@link MoneyConverter};
+ * elsewhere convert at the boundary with {@link #of(BigDecimal)} and {@link #toBigDecimal()}.
+ * JSON carries the decimal amount.
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+    private static final int SCALE = 2;
+
+    private final long kobo;
+
+    private Money(long kobo) {
+        this.kobo = kobo;
+    }
+
+    public static Money ofKobo(long kobo) {
+        return kobo == 0 ? ZERO : new Money(kobo);
+    }
+
+    /**
+     * Converts a decimal amount, treating {@code null} as zero. Extra decimal places are rounded
+     * HALF_UP, which is what MySQL does when storing into a DECIMAL(38,2) column.
+     */
+    @JsonCreator
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return ZERO;
+        }
+        return ofKobo(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public long kobo() {
+        return kobo;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(kobo, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofKobo(Math.addExact(kobo, other.kobo));
+    }
+
+    public Money minus(Money other) {
+        return ofKobo(Math.subtractExact(kobo, other.kobo));
+    }
+
+    public Money negate() {
+        return ofKobo(Math.negateExact(kobo));
+    }
+
+    public Money times(long count) {
+        return ofKobo(Math.multiplyExact(kobo, count));
+    }
+
+    public Money times(BigDecimal factor, RoundingMode rounding) {
+        return of(toBigDecimal().multiply(factor).setScale(SCALE, rounding));
+    }
+
+    public Money min(Money other) {
+        return kobo <= other.kobo ? this : other;
+    }
+
+    public Money max(Money other) {
+        return kobo >= other.kobo ? this : other;
+    }
+
+    public boolean isPositive() {
+        return kobo > 0;
+    }
+
+    public boolean isZero() {
+        return kobo == 0;
+    }
+
+    public boolean isNegative() {
+        return kobo < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(kobo, other.kobo);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && kobo == other.kobo;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(kobo);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.hygatech.loan_processor.utils;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Maps a {@link Money} attribute onto an existing DECIMAL(38,2) column. Apply it per attribute
+ * with {@code @Convert(converter = MoneyConverter.class)}. A NULL column reads as zero, like
+ * {@link Money#of(BigDecimal)}; only an unset attribute is written as NULL.
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money attribute) {
+        return attribute == null ? null : attribute.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal dbData) {
+        return Money.of(dbData);
+    }
+}
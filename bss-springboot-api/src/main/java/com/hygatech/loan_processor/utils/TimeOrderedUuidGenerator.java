@@ -0,0 +1,58 @@
+package com.hygatech.loan_processor.utils;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * UUID version 7: a 48-bit Unix millisecond timestamp, then a 12-bit counter, then 62 random
+ * bits. The counter restarts every millisecond and, when it overflows, borrows the next
+ * millisecond, so ids from this JVM are strictly increasing in byte order even when the clock
+ * stalls or steps back.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+    private static final long COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Last issued (timestamp << 12 | counter), shared by every entity using the generator
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    public static UUID next() {
+        long state = nextState(System.currentTimeMillis());
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+
+        long mostSigBits = (timestamp << 16) | 0x7000L | counter;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    static long nextState(long now) {
+        while (true) {
+            long last = LAST_STATE.get();
+            long candidate = now << COUNTER_BITS;
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST_STATE.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
@@ -0,0 +1,65 @@
+package com.hygatech.loan_processor.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style transaction numbers: 41 bits of milliseconds since 2024-01-01 UTC, a 10-bit
+ * node id and a 12-bit per-millisecond sequence, rendered as 19 zero-padded digits. Numbers from
+ * one node are strictly increasing; distinct node ids never collide. When the sequence of a
+ * millisecond is exhausted, or the clock steps back, the generator borrows the next millisecond
+ * instead of blocking.
+ */
+public final class TransactionNumberGenerator {
+    public static final int NODE_BITS = 10;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long EPOCH = 1704067200000L;
+    private static final int DIGITS = 19;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    // Last issued (elapsed millis << 12 | sequence)
+    private final AtomicLong lastState = new AtomicLong();
+
+    public TransactionNumberGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TransactionNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Transaction node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        long state = nextState(clock.getAsLong() - EPOCH);
+        long elapsed = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+        return (elapsed << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public String next() {
+        long id = nextId();
+        char[] digits = new char[DIGITS];
+        for (int i = DIGITS - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + id % 10);
+            id /= 10;
+        }
+        return new String(digits);
+    }
+
+    private long nextState(long elapsed) {
+        while (true) {
+            long last = lastState.get();
+            long candidate = elapsed << SEQUENCE_BITS;
+            long next = candidate > last ? candidate : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -9,6 +9,8 @@ public class TransactionUtil {
     public static TransactionDto toDto(Transaction transaction, Account account){
         TransactionDto dto = new TransactionDto();
         BeanUtils.copyProperties(transaction, dto);
+        // copyProperties skips properties whose types differ
+        dto.setAmount(transaction.getAmount() == null ? null : transaction.getAmount().toBigDecimal());
         if (transaction.getAccount() != null){
             dto.setAccount(account);
 
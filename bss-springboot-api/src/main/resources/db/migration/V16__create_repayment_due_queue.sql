@@ -0,0 +1,29 @@
+CREATE TABLE repayment_due_queue
+(
+    application_id BIGINT PRIMARY KEY,
+    next_due_date  TIMESTAMP NOT NULL,
+
+    CONSTRAINT fk_due_queue_application FOREIGN KEY (application_id) REFERENCES loan_applications (id)
+);
+
+CREATE INDEX idx_due_queue_next_due ON repayment_due_queue (next_due_date);
+
+CREATE TABLE repayment_sweep_watermark
+(
+    id                BIGINT PRIMARY KEY,
+    last_cutoff       TIMESTAMP NULL,
+    last_completed_at TIMESTAMP NULL
+);
+
+INSERT INTO repayment_sweep_watermark (id) VALUES (1);
+
+-- Backs the per-chunk lookup of a loan's due installments and the next-due recomputation
+CREATE INDEX idx_repayment_app_status_maturity ON loan_repayments (application_id, status, maturity_date);
+
+-- Seed the queue with every loan that still has an unpaid installment (PENDING = 0, DEFAULT = 2)
+INSERT INTO repayment_due_queue (application_id, next_due_date)
+SELECT application_id, MIN(maturity_date)
+FROM loan_repayments
+WHERE status IN (0, 2)
+  AND application_id IS NOT NULL
+GROUP BY application_id;
@@ -0,0 +1,37 @@
+CREATE TABLE repayment_jobs
+(
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    status       TINYINT      NOT NULL,
+    cutoff       TIMESTAMP    NOT NULL,
+    trx_no       VARCHAR(255) NOT NULL,
+    total_loans  INT          NOT NULL DEFAULT 0,
+    total_chunks INT          NOT NULL DEFAULT 0,
+    submitted_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at   TIMESTAMP    NULL,
+    finished_at  TIMESTAMP    NULL
+);
+
+CREATE INDEX idx_repayment_job_status ON repayment_jobs (status);
+
+CREATE TABLE repayment_job_chunks
+(
+    id                   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id               BIGINT    NOT NULL,
+    chunk_no             INT       NOT NULL,
+    first_application_id BIGINT    NOT NULL,
+    last_application_id  BIGINT    NOT NULL,
+    loans                INT       NOT NULL,
+    status               TINYINT   NOT NULL,
+    last_repayment_id    BIGINT    NULL,
+    installments         BIGINT    NOT NULL DEFAULT 0,
+    posted               BIGINT    NOT NULL DEFAULT 0,
+    defaulted            BIGINT    NOT NULL DEFAULT 0,
+    attempts             INT       NOT NULL DEFAULT 0,
+    error_message        VARCHAR(255),
+    completed_at         TIMESTAMP NULL,
+
+    CONSTRAINT fk_chunk_job FOREIGN KEY (job_id) REFERENCES repayment_jobs (id),
+    CONSTRAINT uk_job_chunk UNIQUE (job_id, chunk_no)
+);
+
+CREATE INDEX idx_chunk_job_status ON repayment_job_chunks (job_id, status);
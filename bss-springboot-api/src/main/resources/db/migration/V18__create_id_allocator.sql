@@ -0,0 +1,17 @@
+-- Block allocator for the high-volume entities. Hibernate reserves 50 ids per round trip, so
+-- inserts of these entities can be batched (IDENTITY keys force one INSERT per row).
+CREATE TABLE id_allocator
+(
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_val      BIGINT NOT NULL
+);
+
+-- The pooled optimizer hands out (next_val - 49 .. next_val], so start one block past the current max id
+INSERT INTO id_allocator (sequence_name, next_val)
+SELECT 'loan_repayments', COALESCE(MAX(id), 0) + 51 FROM loan_repayments;
+
+INSERT INTO id_allocator (sequence_name, next_val)
+SELECT 'accounts', COALESCE(MAX(id), 0) + 51 FROM accounts;
+
+INSERT INTO id_allocator (sequence_name, next_val)
+SELECT 'loan_applications', COALESCE(MAX(id), 0) + 51 FROM loan_applications;
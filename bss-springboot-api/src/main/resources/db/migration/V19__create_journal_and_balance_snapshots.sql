@@ -0,0 +1,36 @@
+-- Append-only double-entry journal. Every posting writes balancing legs under one trx_no:
+-- the customer account leg and a contra leg on an internal ledger (ledger 0 = customer account).
+CREATE TABLE journal_entries
+(
+    id          BIGINT PRIMARY KEY,
+    trx_no      VARCHAR(255)   NOT NULL,
+    ledger      TINYINT        NOT NULL,
+    account_id  BIGINT         NULL,
+    side        TINYINT        NOT NULL,
+    amount      DECIMAL(38, 2) NOT NULL,
+    description VARCHAR(255),
+    posted_at   TIMESTAMP      NOT NULL,
+
+    CONSTRAINT fk_journal_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+CREATE INDEX idx_journal_trx_no ON journal_entries (trx_no);
+CREATE INDEX idx_journal_account_posted ON journal_entries (account_id, posted_at);
+
+INSERT INTO id_allocator (sequence_name, next_val) VALUES ('journal_entries', 51);
+
+-- End-of-day balance per account, written by the daily snapshot job
+CREATE TABLE account_balance_snapshots
+(
+    account_id    BIGINT         NOT NULL,
+    snapshot_date DATE           NOT NULL,
+    balance       DECIMAL(38, 2) NOT NULL,
+
+    PRIMARY KEY (account_id, snapshot_date),
+    CONSTRAINT fk_snapshot_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+-- The journal starts today: yesterday's snapshot is the current cached balance of every account
+INSERT INTO account_balance_snapshots (account_id, snapshot_date, balance)
+SELECT id, CURRENT_DATE - INTERVAL 1 DAY, COALESCE(balance, 0)
+FROM accounts;
@@ -0,0 +1,6 @@
+-- Keyset order of an account statement. InnoDB appends the primary key (id) to the index, so
+-- (account_id, trx_date, id) is covered; amount is included for index-only opening-balance sums.
+CREATE INDEX idx_trx_account_date_amount ON transactions (account_id, trx_date, amount);
+
+-- The composite index now backs fk_trx_account, so the single-column index is redundant
+DROP INDEX idx_account ON transactions;
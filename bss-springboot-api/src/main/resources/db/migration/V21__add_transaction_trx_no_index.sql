@@ -0,0 +1,2 @@
+-- Lookups by transaction number (async posting status, journal reconciliation)
+CREATE INDEX idx_trx_trx_no ON transactions (trx_no);
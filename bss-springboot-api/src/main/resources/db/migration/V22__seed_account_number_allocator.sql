@@ -0,0 +1,4 @@
+-- Account number serials are reserved in blocks by AccountNumberAllocator; next_val is the first
+-- unreserved serial. New numbers start with 3, existing ones with 2, so the ranges cannot meet.
+INSERT INTO id_allocator (sequence_name, next_val)
+VALUES ('account_numbers', 300000000);
@@ -0,0 +1,11 @@
+-- One row per metric and day (metric = FinancialMetric ordinal). Posting paths add their deltas
+-- in the same transaction; the dashboard series read month sums from here instead of grouping
+-- the source tables. Filled from history on first start by FinancialRollupBackfill.
+CREATE TABLE daily_financial_rollup
+(
+    metric      TINYINT        NOT NULL,
+    rollup_date DATE           NOT NULL,
+    amount      DECIMAL(38, 2) NOT NULL,
+
+    PRIMARY KEY (metric, rollup_date)
+);
@@ -0,0 +1,28 @@
+-- Composite indexes for the report Specifications: equality columns first, then the date range.
+-- The user composites lead with the foreign key column, so they replace the single-column FK indexes.
+
+-- LoanSpecifications: status and/or {action}_by_id = :user, then {action}_at BETWEEN
+CREATE INDEX idx_loan_status_applied_at ON loan_applications (status, applied_at);
+CREATE INDEX idx_loan_applied_at ON loan_applications (applied_at);
+CREATE INDEX idx_loan_approved_at ON loan_applications (approved_at);
+CREATE INDEX idx_loan_disbursed_at ON loan_applications (disbursed_at);
+CREATE INDEX idx_loan_applied_by_at ON loan_applications (applied_by_id, applied_at);
+CREATE INDEX idx_loan_approved_by_at ON loan_applications (approved_by_id, approved_at);
+CREATE INDEX idx_loan_disbursed_by_at ON loan_applications (disbursed_by_id, disbursed_at);
+DROP INDEX idx_applied_by ON loan_applications;
+DROP INDEX idx_approved_by ON loan_applications;
+DROP INDEX idx_disbursed_by ON loan_applications;
+
+-- RepaymentSpecification: status, then maturity_date or payment_date BETWEEN
+CREATE INDEX idx_repayment_status_maturity ON loan_repayments (status, maturity_date);
+CREATE INDEX idx_repayment_status_payment ON loan_repayments (status, payment_date);
+CREATE INDEX idx_repayment_maturity ON loan_repayments (maturity_date);
+CREATE INDEX idx_repayment_payment ON loan_repayments (payment_date);
+
+-- TransactionSpecification: user_id, then trx_date range (the amount sign is filtered on the rows found)
+CREATE INDEX idx_trx_user_date ON transactions (user_id, trx_date);
+CREATE INDEX idx_trx_date ON transactions (trx_date);
+DROP INDEX idx_user ON transactions;
+
+-- AdasheCommissionSpecifications and the rollup rebuild: trx_date BETWEEN
+CREATE INDEX idx_comm_trx_date ON adashe_commissions (trx_date);
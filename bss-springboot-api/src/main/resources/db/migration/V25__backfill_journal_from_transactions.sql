@@ -0,0 +1,59 @@
+-- The journal started with V19, so statements had no lines for older activity. Journal every
+-- transactions row that has no leg yet, dated no later than the seed snapshot day (whose balance
+-- already includes them), and post the remainder of each seed balance as a brought-forward leg
+-- against the opening balance ledger (ledger 3), so the legs add up to the snapshots again.
+
+SET @seed_date = (SELECT MIN(snapshot_date) FROM account_balance_snapshots);
+SET @seed_end = TIMESTAMP(@seed_date) + INTERVAL 1 DAY - INTERVAL 1 SECOND;
+SET @next_id = (SELECT next_val FROM id_allocator WHERE sequence_name = 'journal_entries');
+
+CREATE TEMPORARY TABLE journal_backfill AS
+SELECT ROW_NUMBER() OVER (ORDER BY t.trx_date, t.id)                           AS n,
+       COALESCE(t.trx_no, CONCAT('LEGACY-', HEX(t.id)))                        AS trx_no,
+       t.account_id,
+       t.amount,
+       t.description,
+       COALESCE(LEAST(t.trx_date, @seed_end), t.trx_date, @seed_end, CURRENT_TIMESTAMP) AS posted_at
+FROM transactions t
+WHERE t.account_id IS NOT NULL
+  AND t.amount <> 0
+  AND NOT EXISTS (SELECT 1 FROM journal_entries j WHERE j.trx_no = t.trx_no AND j.account_id = t.account_id);
+
+-- Ids above next_val have not been handed out by the pooled allocator
+INSERT INTO journal_entries (id, trx_no, ledger, account_id, side, amount, description, posted_at)
+SELECT @next_id + 2 * b.n - 1, b.trx_no, 0, b.account_id, IF(b.amount > 0, 1, 0), ABS(b.amount), b.description, b.posted_at
+FROM journal_backfill b;
+
+INSERT INTO journal_entries (id, trx_no, ledger, account_id, side, amount, description, posted_at)
+SELECT @next_id + 2 * b.n, b.trx_no, 1, NULL, IF(b.amount > 0, 0, 1), ABS(b.amount), b.description, b.posted_at
+FROM journal_backfill b;
+
+SET @next_id = @next_id + 2 * (SELECT COUNT(*) FROM journal_backfill);
+
+CREATE TEMPORARY TABLE journal_brought_forward AS
+SELECT ROW_NUMBER() OVER (ORDER BY d.account_id) AS n, d.account_id, d.amount
+FROM (SELECT s.account_id,
+             s.balance - COALESCE((SELECT SUM(IF(j.side = 1, j.amount, -j.amount))
+                                   FROM journal_entries j
+                                   WHERE j.account_id = s.account_id AND j.posted_at <= @seed_end), 0) AS amount
+      FROM account_balance_snapshots s
+      WHERE s.snapshot_date = @seed_date) d
+WHERE d.amount <> 0;
+
+INSERT INTO journal_entries (id, trx_no, ledger, account_id, side, amount, description, posted_at)
+SELECT @next_id + 2 * f.n - 1, CONCAT('OPENING-', f.account_id), 0, f.account_id, IF(f.amount > 0, 1, 0), ABS(f.amount),
+       'Balance brought forward', @seed_end
+FROM journal_brought_forward f;
+
+INSERT INTO journal_entries (id, trx_no, ledger, account_id, side, amount, description, posted_at)
+SELECT @next_id + 2 * f.n, CONCAT('OPENING-', f.account_id), 3, NULL, IF(f.amount > 0, 0, 1), ABS(f.amount),
+       'Balance brought forward', @seed_end
+FROM journal_brought_forward f;
+
+DROP TEMPORARY TABLE journal_backfill;
+DROP TEMPORARY TABLE journal_brought_forward;
+
+-- The allocator's next block must start above the backfilled ids (pooled blocks are next_val - 49 .. next_val)
+UPDATE id_allocator
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM journal_entries))
+WHERE sequence_name = 'journal_entries';
@@ -0,0 +1,9 @@
+-- Statements read journal_entries, not transactions, so nothing uses the V20 composite index.
+-- Put back the single-column index for fk_trx_account before dropping it.
+CREATE INDEX idx_account ON transactions (account_id);
+DROP INDEX idx_trx_account_date_amount ON transactions;
+
+-- A statement page re-sums the legs before its cursor; with ledger, side and amount in the index
+-- that sum is index-only. The wider index also backs fk_journal_account.
+CREATE INDEX idx_journal_account_posted_amount ON journal_entries (account_id, posted_at, ledger, side, amount);
+DROP INDEX idx_journal_account_posted ON journal_entries;
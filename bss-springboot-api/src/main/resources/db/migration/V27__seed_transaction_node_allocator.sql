@@ -0,0 +1,4 @@
+-- Instances started without loan.transaction.node-id lease their transaction number node id
+-- here: each start takes the next counter value, modulo the 1024 node ids.
+INSERT INTO id_allocator (sequence_name, next_val)
+VALUES ('transaction_nodes', 0);
@@ -0,0 +1,16 @@
+-- What each installment received from an aggregated repayment posting. The sweep's AGGREGATED
+-- mode writes one savings debit and one loan credit per loan; these rows split the loan credit
+-- across the installments it paid, oldest first.
+CREATE TABLE repayment_allocations
+(
+    id              BIGINT PRIMARY KEY,
+    transaction_id  BINARY(16)     NOT NULL,
+    repayment_id    BIGINT         NOT NULL,
+    amount          DECIMAL(38, 2) NOT NULL,
+    interest_amount DECIMAL(38, 2) NOT NULL,
+
+    CONSTRAINT fk_allocation_transaction FOREIGN KEY (transaction_id) REFERENCES transactions (id),
+    CONSTRAINT fk_allocation_repayment FOREIGN KEY (repayment_id) REFERENCES loan_repayments (id)
+);
+
+INSERT INTO id_allocator (sequence_name, next_val) VALUES ('repayment_allocations', 51);
@@ -0,0 +1,3 @@
+-- The sweep rescans every queued loan up to the job cutoff (defaulted installments are retried),
+-- so the last cutoff was never a usable lower bound and nothing read it.
+DROP TABLE repayment_sweep_watermark;
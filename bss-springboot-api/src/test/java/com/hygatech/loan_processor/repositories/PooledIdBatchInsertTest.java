@@ -0,0 +1,101 @@
+package com.hygatech.loan_processor.repositories;
+
+import com.hygatech.loan_processor.dtos.LoanDisbursementDto;
+import com.hygatech.loan_processor.entities.Customer;
+import com.hygatech.loan_processor.entities.LoanApplication;
+import com.hygatech.loan_processor.entities.LoanStatus;
+import com.hygatech.loan_processor.entities.User;
+import com.hygatech.loan_processor.services.AccountBalanceService;
+import com.hygatech.loan_processor.services.AccountNumberAllocator;
+import com.hygatech.loan_processor.services.DueRepaymentReader;
+import com.hygatech.loan_processor.services.FinancialRollupService;
+import com.hygatech.loan_processor.services.JournalService;
+import com.hygatech.loan_processor.services.RepaymentDueQueueService;
+import com.hygatech.loan_processor.services.RepaymentSweepService;
+import com.hygatech.loan_processor.services.TransactionService;
+import com.hygatech.loan_processor.services.helpers.RepaymentScheduleCalculator;
+import com.hygatech.loan_processor.services.implementations.LoanApplicationServiceImpl;
+import com.hygatech.loan_processor.services.interfaces.LoanApplicationService;
+import com.hygatech.loan_processor.support.CapturedStatements;
+import com.hygatech.loan_processor.support.MySqlJpaTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A disbursement saves four installments per month of tenor. With ids taken from id_allocator in
+ * pooled blocks Hibernate batches the inserts and the driver rewrites each batch into one
+ * multi-row INSERT, so MySQL sees one statement per batch instead of one IDENTITY insert per row.
+ */
+@TestPropertySource(properties = CapturedStatements.PROPERTY)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({LoanApplicationServiceImpl.class, TransactionService.class, AccountBalanceService.class, JournalService.class,
+        RepaymentDueQueueService.class, RepaymentScheduleCalculator.class, FinancialRollupService.class,
+        AccountNumberAllocator.class})
+class PooledIdBatchInsertTest extends MySqlJpaTest {
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final Pattern INSERT_TABLE = Pattern.compile("(?i)^insert into (\\w+)");
+
+    @MockBean
+    private RepaymentSweepService repaymentSweepService;
+
+    @MockBean
+    private DueRepaymentReader dueRepaymentReader;
+
+    @Autowired
+    private LoanApplicationService loanApplicationService;
+
+    @Autowired
+    private LoanRepaymentRepository repaymentRepository;
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 12, 24})
+    void disbursementScheduleIsInsertedInBatches(int months) {
+        Customer customer = fixtures.customer("Borrower");
+        fixtures.savingsAccount(customer, BigDecimal.ZERO);
+        LoanApplication application = fixtures.loan(customer, LoanStatus.APPROVED, LocalDateTime.now());
+        application.setTenorApproved(months);
+        application.setLoanProduct(fixtures.product("Weekly"));
+        User officer = fixtures.user("disburser");
+        entityManager.flush();
+        entityManager.clear();
+
+        CapturedStatements.clear();
+        loanApplicationService.disburseLoan(new LoanDisbursementDto(application.getId(), officer.getId()));
+        entityManager.flush();
+
+        int installments = months * 4;
+        assertThat(repaymentRepository.findLoanRepaymentsByApplicationId(application.getId())).hasSize(installments);
+
+        // The daily rollup is one upsert per metric and day by design, not an entity insert
+        Map<String, Long> insertsByTable = CapturedStatements.startingWith("insert").stream()
+                .map(INSERT_TABLE::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> matcher.group(1).toLowerCase())
+                .filter(table -> !table.equals("daily_financial_rollup"))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        // The schedule takes one statement per batch; the loan account, its two ledger rows, their
+        // journal legs and the due-queue entry fit in a single batch each
+        long batches = (installments + JDBC_BATCH_SIZE - 1) / JDBC_BATCH_SIZE;
+        assertThat(insertsByTable).containsEntry("loan_repayments", batches);
+        assertThat(insertsByTable).allSatisfy((table, statements) -> assertThat(statements)
+                .as("insert statements into %s", table)
+                .isLessThanOrEqualTo(table.equals("loan_repayments") ? batches : 1));
+    }
+}
@@ -0,0 +1,159 @@
+package com.hygatech.loan_processor.repositories;
+
+import com.hygatech.loan_processor.entities.LoanStatus;
+import com.hygatech.loan_processor.specifications.AdasheCommissionSpecifications;
+import com.hygatech.loan_processor.specifications.LoanSpecifications;
+import com.hygatech.loan_processor.specifications.RepaymentSpecification;
+import com.hygatech.loan_processor.specifications.TransactionSpecification;
+import com.hygatech.loan_processor.support.CapturedStatements;
+import com.hygatech.loan_processor.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Runs each report Specification through its repository, captures the select Hibernate sends
+ * (fetch joins included, with the bound values as the driver sent them) and EXPLAINs it, checking
+ * the report table is read through its V24 index rather than a full scan. The tables get a few
+ * thousand rows spread over several years, so a one-day range is selective enough for the
+ * optimizer to prefer the index.
+ */
+@TestPropertySource(properties = CapturedStatements.PROPERTY)
+class ReportIndexExplainTest extends MySqlJpaTest {
+    private static final int ROWS = 5000;
+    private static final int USERS = 50;
+    private static final LocalDateTime DAY = LocalDateTime.of(2021, 6, 1, 0, 0);
+    private static final LocalDateTime QUARTER = LocalDateTime.of(2021, 1, 1, 0, 0);
+    private static final Pattern ROOT_TABLE = Pattern.compile("\\bfrom (\\w+) (\\w+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LoanApplicationRepository loans;
+
+    @Autowired
+    private LoanRepaymentRepository repayments;
+
+    @Autowired
+    private TransactionRepository transactions;
+
+    @Autowired
+    private AdasheCommissionRepository commissions;
+
+    private long user;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + ROWS);
+        jdbcTemplate.update("""
+                INSERT INTO users (name, username, email, role, password, is_enabled)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT CONCAT('Officer ', n), CONCAT('explain', n), CONCAT('explain', n, '@example.com'), 0, 'x', TRUE
+                FROM seq""", USERS);
+        long firstUser = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users WHERE username LIKE 'explain%'", Long.class);
+        user = firstUser;
+
+        // One row every 8 hours from 2020: a day holds 3 of the 5000 rows, a status about a fifth
+        jdbcTemplate.update("""
+                INSERT INTO loan_applications (amount, status, applied_at, approved_at, disbursed_at,
+                                               applied_by_id, approved_by_id, disbursed_by_id)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT 1000, n % 5,
+                       TIMESTAMP('2020-01-01') + INTERVAL n * 8 HOUR,
+                       TIMESTAMP('2020-01-02') + INTERVAL n * 8 HOUR,
+                       TIMESTAMP('2020-01-03') + INTERVAL n * 8 HOUR,
+                       ? + n % ?, ? + n % ?, ? + n % ?
+                FROM seq""", ROWS - 1, firstUser, USERS, firstUser, USERS, firstUser, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO loan_repayments (interest, monitoring_fee, processing_fee, principal, total,
+                                             status, maturity_date, payment_date)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT 10, 1, 1, 100, 112, n % 3,
+                       TIMESTAMP('2020-01-01') + INTERVAL n * 8 HOUR,
+                       TIMESTAMP('2020-01-05') + INTERVAL n * 8 HOUR
+                FROM seq""", ROWS - 1);
+        jdbcTemplate.update("""
+                INSERT INTO transactions (id, amount, trx_no, trx_date, description, user_id)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT UUID_TO_BIN(UUID(), 1), IF(n % 2 = 0, 500, -500), CONCAT('EXPLAIN', n),
+                       TIMESTAMP('2020-01-01') + INTERVAL n * 8 HOUR, 'Deposit', ? + n % ?
+                FROM seq""", ROWS - 1, firstUser, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO adashe_commissions (amount, trx_id, trx_date)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                SELECT 50, CONCAT('EXPLAIN', n), TIMESTAMP('2020-01-01') + INTERVAL n * 8 HOUR
+                FROM seq""", ROWS - 1);
+    }
+
+    static Stream<Arguments> reports() {
+        return Stream.of(
+                report("loans by status and applied date", "idx_loan_status_applied_at",
+                        test -> test.loans.findAll(LoanSpecifications.byCriteria(LoanStatus.APPROVED, null, null, DAY, DAY.plusDays(1)))),
+                report("loans by applied date", "idx_loan_applied_at",
+                        test -> test.loans.findAll(LoanSpecifications.byCriteria(null, null, null, DAY, DAY.plusDays(1)))),
+                report("loans by approved date", "idx_loan_approved_at",
+                        test -> test.loans.findAll(LoanSpecifications.byCriteria(null, "approved", null, DAY, DAY.plusDays(1)))),
+                report("loans by disbursed date", "idx_loan_disbursed_at",
+                        test -> test.loans.findAll(LoanSpecifications.byCriteria(null, "disbursed", null, DAY, DAY.plusDays(1)))),
+                report("loans applied by a user", "idx_loan_applied_by_at",
+                        test -> test.loans.findAll(LoanSpecifications.byCriteria(null, "applied", test.user, QUARTER, QUARTER.plusMonths(2)))),
+                report("loans approved by a user", "idx_loan_approved_by_at",
+                        test -> test.loans.findAll(LoanSpecifications.byCriteria(null, "approved", test.user, QUARTER, QUARTER.plusMonths(2)))),
+                report("loans disbursed by a user", "idx_loan_disbursed_by_at",
+                        test -> test.loans.findAll(LoanSpecifications.byCriteria(null, "disbursed", test.user, QUARTER, QUARTER.plusMonths(2)))),
+                report("repayments by status and maturity", "idx_repayment_status_maturity",
+                        test -> test.repayments.findAll(RepaymentSpecification.byCriteria("paid", null, DAY, DAY.plusDays(1)))),
+                report("repayments by status and payment", "idx_repayment_status_payment",
+                        test -> test.repayments.findAll(RepaymentSpecification.byCriteria("paid", "payment", DAY, DAY.plusDays(1)))),
+                report("repayments by maturity", "idx_repayment_maturity",
+                        test -> test.repayments.findAll(RepaymentSpecification.byCriteria(null, null, DAY, DAY.plusDays(1)))),
+                report("repayments by payment", "idx_repayment_payment",
+                        test -> test.repayments.findAll(RepaymentSpecification.byCriteria(null, "payment", DAY, DAY.plusDays(1)))),
+                report("credits by date", "idx_trx_date",
+                        test -> test.transactions.findAll(TransactionSpecification.byCriteria("credit", null, DAY, DAY.plusDays(1)))),
+                report("transactions by user and date", "idx_trx_user_date",
+                        test -> test.transactions.findAll(TransactionSpecification.byCriteria(null, String.valueOf(test.user), QUARTER, QUARTER.plusMonths(2)))),
+                report("adashe commissions by date", "idx_comm_trx_date",
+                        test -> test.commissions.findAll(AdasheCommissionSpecifications.trxDateBetween(DAY, DAY.plusDays(1))))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("reports")
+    void reportQueryUsesItsIndex(String report, String index, Consumer<ReportIndexExplainTest> query) {
+        entityManager.clear();
+        CapturedStatements.clear();
+        query.accept(this);
+        String sql = CapturedStatements.startingWith("select").getFirst();
+
+        Matcher root = ROOT_TABLE.matcher(sql);
+        assertThat(root.find()).as("root table of %s", sql).isTrue();
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        // The fetch-joined tables are read by primary key; the report table is the one that needs its index
+        assertThat(plan).filteredOn(row -> root.group(2).equals(row.get("table"))).singleElement().satisfies(row -> {
+            assertThat(row.get("type")).as("access type").isIn("range", "ref");
+            assertThat(row.get("key")).as("index").isEqualTo(index);
+        });
+    }
+
+    private static Arguments report(String name, String index, Consumer<ReportIndexExplainTest> query) {
+        return arguments(name, index, query);
+    }
+}
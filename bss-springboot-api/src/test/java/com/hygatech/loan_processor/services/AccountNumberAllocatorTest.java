@@ -0,0 +1,45 @@
+package com.hygatech.loan_processor.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountNumberAllocatorTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0,         0000000000",
+            "1,         0000000017",
+            "123456789, 1234567895",
+            "999999999, 9999999999"
+    })
+    void appendsTheWeightedCheckDigit(long serial, String accountNumber) {
+        assertThat(AccountNumberAllocator.format(serial)).isEqualTo(accountNumber);
+        assertThat(AccountNumberAllocator.isValid(accountNumber)).isTrue();
+    }
+
+    @Test
+    void everySingleDigitTypoIsCaught() {
+        String accountNumber = AccountNumberAllocator.format(483_920_117L);
+        for (int position = 0; position < accountNumber.length(); position++) {
+            for (char digit = '0'; digit <= '9'; digit++) {
+                if (digit == accountNumber.charAt(position)) {
+                    continue;
+                }
+                String typo = accountNumber.substring(0, position) + digit + accountNumber.substring(position + 1);
+                assertThat(AccountNumberAllocator.isValid(typo)).as(typo).isFalse();
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "123456789", "12345678950", "12345a7895", "-234567895"})
+    void rejectsMalformedNumbers(String accountNumber) {
+        assertThat(AccountNumberAllocator.isValid(accountNumber)).isFalse();
+    }
+}
@@ -0,0 +1,101 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.entities.*;
+import com.hygatech.loan_processor.repositories.JournalEntryRepository;
+import com.hygatech.loan_processor.support.MySqlJpaTest;
+import com.hygatech.loan_processor.utils.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(JournalService.class)
+class JournalServiceTest extends MySqlJpaTest {
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private JournalEntryRepository repository;
+
+    private Account savings;
+    private Account loan;
+
+    @BeforeEach
+    void accounts() {
+        Customer customer = fixtures.customer("Journal Customer");
+        savings = fixtures.savingsAccount(customer, BigDecimal.ZERO);
+        loan = fixtures.loanAccount(fixtures.loan(customer, LoanStatus.ACTIVE, LocalDateTime.now()), BigDecimal.ZERO);
+    }
+
+    @Test
+    void disbursementOffsetsTheAccountsAndBooksTheDifferenceAsIncome() {
+        journalService.post("DISB-1", List.of(
+                new JournalService.Leg(savings, money("100000.00"), "Loan disbursement"),
+                new JournalService.Leg(loan, money("120000.00"), "Loan disbursement")), LedgerCode.INTEREST_INCOME);
+
+        List<JournalEntry> legs = legs("DISB-1");
+        assertThat(legs).extracting(JournalEntry::getLedger)
+                .containsExactly(LedgerCode.CUSTOMER_ACCOUNT, LedgerCode.LOAN_ACCOUNT, LedgerCode.INTEREST_INCOME);
+        assertThat(legs.getLast().getSide()).isEqualTo(TransactionType.credit);
+        assertThat(legs.getLast().getAmount()).isEqualTo(money("20000.00"));
+        assertThat(net(legs)).isEqualTo(Money.ZERO);
+
+        assertThat(journalService.balanceAsOf(savings.getId(), LocalDate.now())).isEqualByComparingTo("100000.00");
+        assertThat(journalService.balanceAsOf(loan.getId(), LocalDate.now())).isEqualByComparingTo("120000.00");
+    }
+
+    @Test
+    void repaymentIsATransferBetweenTheCustomerAccounts() {
+        journalService.post("DISB-2", List.of(
+                new JournalService.Leg(savings, money("100000.00"), "Loan disbursement"),
+                new JournalService.Leg(loan, money("120000.00"), "Loan disbursement")), LedgerCode.INTEREST_INCOME);
+        journalService.post("REP-2", List.of(
+                new JournalService.Leg(savings, money("-10000.00"), "Loan repayment"),
+                new JournalService.Leg(loan, money("-10000.00"), "Loan principal repayment")), null);
+
+        List<JournalEntry> legs = legs("REP-2");
+        assertThat(legs).extracting(JournalEntry::getSide).containsExactly(TransactionType.debit, TransactionType.credit);
+        assertThat(net(legs)).isEqualTo(Money.ZERO);
+
+        assertThat(journalService.balanceAsOf(savings.getId(), LocalDate.now())).isEqualByComparingTo("90000.00");
+        assertThat(journalService.balanceAsOf(loan.getId(), LocalDate.now())).isEqualByComparingTo("110000.00");
+    }
+
+    @Test
+    void anUnbalancedTransferIsRejected() {
+        assertThatThrownBy(() -> journalService.post("REP-3", List.of(
+                new JournalService.Leg(savings, money("-10000.00"), "Loan repayment"),
+                new JournalService.Leg(loan, money("-9000.00"), "Loan principal repayment")), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("REP-3");
+    }
+
+    private List<JournalEntry> legs(String trxNo) {
+        entityManager.flush();
+        return repository.findAll().stream()
+                .filter(leg -> leg.getTrxNo().equals(trxNo))
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList();
+    }
+
+    private static Money net(List<JournalEntry> legs) {
+        Money net = Money.ZERO;
+        for (JournalEntry leg : legs) {
+            net = leg.getSide() == TransactionType.credit ? net.plus(leg.getAmount()) : net.minus(leg.getAmount());
+        }
+        return net;
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,74 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.entities.Customer;
+import com.hygatech.loan_processor.entities.LoanApplication;
+import com.hygatech.loan_processor.entities.LoanStatus;
+import com.hygatech.loan_processor.support.MySqlJpaTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(RepaymentAccountLoader.class)
+class RepaymentAccountLoaderTest extends MySqlJpaTest {
+
+    @Autowired
+    private RepaymentAccountLoader loader;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 60})
+    void loadsAChunkInTwoStatementsWhateverItsSize(int loans) {
+        List<LoanApplication> applications = new ArrayList<>();
+        for (int i = 0; i < loans; i++) {
+            Customer customer = fixtures.customer("Customer " + i);
+            fixtures.savingsAccount(customer, new BigDecimal("50000.00"));
+            LoanApplication application = fixtures.loan(customer, LoanStatus.ACTIVE, LocalDateTime.now());
+            fixtures.loanAccount(application, new BigDecimal("120000.00"));
+            applications.add(application);
+        }
+
+        RepaymentAccountLoader.ChunkAccounts[] accounts = new RepaymentAccountLoader.ChunkAccounts[1];
+        long statements = statementsDuring(() -> accounts[0] = loader.load(applications));
+
+        assertThat(statements).isEqualTo(2);
+        for (LoanApplication application : applications) {
+            assertThat(accounts[0].savingsAccount(application).getCustomer().getId()).isEqualTo(application.getCustomer().getId());
+            assertThat(accounts[0].loanAccount(application).getLoanId()).isEqualTo(application.getId());
+        }
+    }
+
+    @Test
+    void failsWhenACustomerHasTwoSavingsAccounts() {
+        Customer customer = fixtures.customer("Twice saved");
+        fixtures.savingsAccount(customer, new BigDecimal("100.00"));
+        fixtures.savingsAccount(customer, new BigDecimal("200.00"));
+        LoanApplication application = fixtures.loan(customer, LoanStatus.ACTIVE, LocalDateTime.now());
+        fixtures.loanAccount(application, new BigDecimal("1000.00"));
+
+        assertThatThrownBy(() -> loader.load(List.of(application)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("savings accounts");
+    }
+
+    @Test
+    void failsWhenALoanHasTwoLoanAccounts() {
+        Customer customer = fixtures.customer("Twice lent");
+        fixtures.savingsAccount(customer, new BigDecimal("100.00"));
+        LoanApplication application = fixtures.loan(customer, LoanStatus.ACTIVE, LocalDateTime.now());
+        fixtures.loanAccount(application, new BigDecimal("1000.00"));
+        fixtures.loanAccount(application, new BigDecimal("1000.00"));
+
+        assertThatThrownBy(() -> loader.load(List.of(application)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("loan accounts");
+    }
+}
@@ -0,0 +1,47 @@
+package com.hygatech.loan_processor.services;
+
+import com.hygatech.loan_processor.dtos.TransactionDto;
+import com.hygatech.loan_processor.dtos.TransactionReportRequest;
+import com.hygatech.loan_processor.entities.Account;
+import com.hygatech.loan_processor.entities.Customer;
+import com.hygatech.loan_processor.support.MySqlJpaTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TransactionReportService.class)
+class TransactionReportServiceTest extends MySqlJpaTest {
+
+    @Autowired
+    private TransactionReportService service;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25, 200})
+    void reportIsOneStatementWhateverItsSize(int rows) {
+        LocalDateTime day = LocalDateTime.of(2025, 3, 10, 9, 0);
+        for (int i = 0; i < rows; i++) {
+            // Every row on its own account and customer, the worst case for per-row lookups
+            Customer customer = fixtures.customer("Customer " + i);
+            Account account = fixtures.savingsAccount(customer, BigDecimal.ZERO);
+            fixtures.transaction(account, new BigDecimal("2500.00"), day.plusMinutes(i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        TransactionReportRequest request = new TransactionReportRequest("credit", null, day.minusDays(1), day.plusDays(1));
+        List<TransactionDto> report = new ArrayList<>();
+        long statements = statementsDuring(() -> report.addAll(service.getTransactionReport(request).toList()));
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(report).hasSize(rows)
+                .allSatisfy(line -> assertThat(line.getAccount().getCustomer().getName()).startsWith("Customer "));
+    }
+}
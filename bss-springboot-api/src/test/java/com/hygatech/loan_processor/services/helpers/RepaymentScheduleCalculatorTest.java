@@ -0,0 +1,102 @@
+package com.hygatech.loan_processor.services.helpers;
+
+import com.hygatech.loan_processor.entities.LoanApplication;
+import com.hygatech.loan_processor.entities.LoanProduct;
+import com.hygatech.loan_processor.entities.LoanRepayment;
+import com.hygatech.loan_processor.utils.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepaymentScheduleCalculatorTest {
+    private final RepaymentScheduleCalculator calculator = new RepaymentScheduleCalculator();
+
+    @ParameterizedTest(name = "{0} over {1} months at {2}/{3}/{4}% in {5} installments")
+    @CsvSource({
+            "100000.00, 3, 5.0, 1.0, 2.0, 12",
+            "250000.00, 6, 4.5, 0.5, 1.5, 24",
+            "33333.33, 1, 7.25, 0.75, 1.25, 4",
+            "1000000.00, 12, 3.333, 0.1, 0.05, 52",
+            "5000.00, 2, 0.0, 0.0, 0.0, 7"
+    })
+    void matchesTheDisbursementAndFixupArithmetic(BigDecimal amount, int tenor, double interestRate,
+                                                  double monitoringFeeRate, double processingFeeRate, int installments) {
+        LoanApplication application = application(amount, tenor, product(interestRate, monitoringFeeRate, processingFeeRate));
+
+        RepaymentScheduleCalculator.Schedule schedule = calculator.schedule(application, installments);
+
+        // The arithmetic LoanApplicationServiceImpl and TestController each had before sharing the calculator
+        BigDecimal tenorBig = BigDecimal.valueOf(tenor);
+        BigDecimal interest = rate(interestRate).multiply(amount).multiply(tenorBig);
+        BigDecimal monitoringFee = rate(monitoringFeeRate).multiply(amount).multiply(tenorBig);
+        BigDecimal processingFee = rate(processingFeeRate).multiply(amount).multiply(tenorBig);
+        BigDecimal n = BigDecimal.valueOf(installments);
+        BigDecimal repaymentInterest = interest.divide(n, 2, RoundingMode.HALF_UP);
+        BigDecimal repaymentMonitoringFee = monitoringFee.divide(n, 2, RoundingMode.HALF_UP);
+        BigDecimal repaymentProcessingFee = processingFee.divide(n, 2, RoundingMode.HALF_UP);
+        BigDecimal principal = amount.divide(n, 2, RoundingMode.HALF_UP);
+
+        // isEqualTo, not isEqualByComparingTo: the scale has to match as well
+        assertThat(schedule.total()).isEqualTo(interest.add(monitoringFee).add(processingFee).add(amount));
+        assertThat(schedule.interest()).isEqualTo(repaymentInterest);
+        assertThat(schedule.monitoringFee()).isEqualTo(repaymentMonitoringFee);
+        assertThat(schedule.processingFee()).isEqualTo(repaymentProcessingFee);
+        assertThat(schedule.principal()).isEqualTo(principal);
+        assertThat(schedule.installmentTotal()).isEqualTo(
+                repaymentInterest.add(repaymentMonitoringFee).add(repaymentProcessingFee).add(principal));
+    }
+
+    @Test
+    void installmentsAreWeeklyFromTheStart() {
+        LoanApplication application = application(new BigDecimal("120000.00"), 3, product(5.0, 1.0, 2.0));
+        LocalDateTime start = LocalDateTime.of(2025, 1, 6, 10, 0);
+
+        List<LoanRepayment> repayments = calculator.schedule(application, 12).repayments(application, start);
+
+        assertThat(repayments).hasSize(12).allSatisfy(repayment -> {
+            assertThat(repayment.getTotal()).isEqualTo(Money.of(new BigDecimal("12400.00")));
+            assertThat(repayment.getTotalDue()).isEqualTo(repayment.getTotal());
+        });
+        assertThat(repayments.getFirst().getMaturityDate()).isEqualTo(start.plusDays(7));
+        assertThat(repayments.getLast().getMaturityDate()).isEqualTo(start.plusDays(84));
+    }
+
+    @Test
+    void aProductUpdateAppliesToTheNextSchedule() {
+        LoanProduct product = product(5.0, 1.0, 2.0);
+        LoanApplication application = application(new BigDecimal("100000.00"), 1, product);
+        BigDecimal before = calculator.schedule(application, 4).total();
+
+        product.setInterestRate(10.0);
+
+        assertThat(calculator.schedule(application, 4).total()).isEqualByComparingTo(before.add(new BigDecimal("5000")));
+    }
+
+    private static BigDecimal rate(double rate) {
+        return BigDecimal.valueOf(rate).divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
+    }
+
+    private static LoanProduct product(double interestRate, double monitoringFeeRate, double processingFeeRate) {
+        LoanProduct product = new LoanProduct();
+        product.setId(1L);
+        product.setInterestRate(interestRate);
+        product.setMonitoringFeeRate(monitoringFeeRate);
+        product.setProcessingFeeRate(processingFeeRate);
+        return product;
+    }
+
+    private static LoanApplication application(BigDecimal amount, int tenor, LoanProduct product) {
+        LoanApplication application = new LoanApplication();
+        application.setAmountApproved(amount);
+        application.setTenorApproved(tenor);
+        application.setLoanProduct(product);
+        return application;
+    }
+}
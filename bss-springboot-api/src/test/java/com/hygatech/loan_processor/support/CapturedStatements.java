@@ -0,0 +1,67 @@
+package com.hygatech.loan_processor.support;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.PreparedQuery;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Driver-side record of every statement sent to MySQL, with the bound values filled in, so a test
+ * can count what actually went over the wire (a rewritten JDBC batch is one statement) or EXPLAIN
+ * it as is. Enabled per test class with {@link #PROPERTY}.
+ */
+public class CapturedStatements implements QueryInterceptor {
+    public static final String PROPERTY = "spring.datasource.hikari.data-source-properties.queryInterceptors="
+            + "com.hygatech.loan_processor.support.CapturedStatements";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /** Statements captured since the last {@link #clear()} that start with {@code keyword}, ignoring case. */
+    public static List<String> startingWith(String keyword) {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.regionMatches(true, 0, keyword, 0, keyword.length()))
+                .toList();
+    }
+
+    @Override
+    public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+        return this;
+    }
+
+    @Override
+    public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+        // Server-side prepared statements (useCursorFetch turns them on) only pass the text with placeholders
+        String text = interceptedQuery instanceof PreparedQuery prepared ? prepared.asSql() : sql.get();
+        if (text != null) {
+            STATEMENTS.add(text.strip());
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeTopLevelOnly() {
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    @Override
+    public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery, T originalResultSet,
+                                               ServerSession serverSession) {
+        return null;
+    }
+}
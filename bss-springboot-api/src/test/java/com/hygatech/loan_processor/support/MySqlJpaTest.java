@@ -0,0 +1,51 @@
+package com.hygatech.loan_processor.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * JPA slice against a real MySQL with the Flyway schema, since the repositories rely on MySQL
+ * syntax and indexes. Skipped where Docker is not available. Hibernate statistics are on so tests
+ * can assert how many statements a call issues.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestFixtures.class)
+public abstract class MySqlJpaTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    protected TestEntityManager entityManager;
+
+    @Autowired
+    protected TestFixtures fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /** JDBC statements prepared while {@code action} runs, after flushing what the test set up. */
+    protected long statementsDuring(Runnable action) {
+        entityManager.flush();
+        statistics().clear();
+        action.run();
+        return statistics().getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,113 @@
+package com.hygatech.loan_processor.support;
+
+import com.hygatech.loan_processor.entities.*;
+import com.hygatech.loan_processor.utils.Money;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Minimal valid rows for the JPA tests. */
+@TestComponent
+public class TestFixtures {
+    private static final AtomicLong ACCOUNT_NUMBERS = new AtomicLong(900_000_000L);
+
+    private final TestEntityManager entityManager;
+
+    public TestFixtures(TestEntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public Customer customer(String name) {
+        Customer customer = new Customer();
+        customer.setName(name);
+        customer.setCustomerType(CustomerType.SAVINGS);
+        return entityManager.persist(customer);
+    }
+
+    public Account savingsAccount(Customer customer, BigDecimal balance) {
+        Account account = account(customer, AccountType.SAVINGS, balance);
+        account.setName("Savings");
+        return entityManager.persist(account);
+    }
+
+    public User user(String username) {
+        User user = new User();
+        user.setName("Officer " + username);
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setRole(Role.USER);
+        user.setPassword("x");
+        user.setIsEnabled(true);
+        return entityManager.persist(user);
+    }
+
+    public LoanProduct product(String name) {
+        LoanProduct product = new LoanProduct();
+        product.setName(name);
+        product.setInterestRate(5.0);
+        product.setMonitoringFeeRate(1.0);
+        product.setProcessingFeeRate(2.0);
+        product.setTenor(3);
+        return entityManager.persist(product);
+    }
+
+    public LoanApplication loan(Customer customer, LoanStatus status, LocalDateTime appliedAt) {
+        LoanApplication application = new LoanApplication();
+        application.setCustomer(customer);
+        application.setAmount(new BigDecimal("100000.00"));
+        application.setAmountApproved(new BigDecimal("100000.00"));
+        application.setTenor(3);
+        application.setTenorApproved(3);
+        application.setStatus(status);
+        application.setAppliedAt(appliedAt);
+        return entityManager.persist(application);
+    }
+
+    public Account loanAccount(LoanApplication application, BigDecimal balance) {
+        Account account = account(application.getCustomer(), AccountType.LOAN, balance);
+        account.setName("Loan");
+        account.setLoanId(application.getId());
+        account.setLoanCycle(1);
+        return entityManager.persist(account);
+    }
+
+    public LoanRepayment repayment(LoanApplication application, RepaymentStatus status, LocalDateTime maturityDate) {
+        return entityManager.persist(unsavedRepayment(application, status, maturityDate));
+    }
+
+    public LoanRepayment unsavedRepayment(LoanApplication application, RepaymentStatus status, LocalDateTime maturityDate) {
+        LoanRepayment repayment = new LoanRepayment();
+        repayment.setApplication(application);
+        repayment.setStatus(status);
+        repayment.setMaturityDate(maturityDate);
+        repayment.setPrincipal(Money.of(new BigDecimal("8000.00")));
+        repayment.setInterest(Money.of(new BigDecimal("1000.00")));
+        repayment.setMonitoringFee(Money.of(new BigDecimal("500.00")));
+        repayment.setProcessingFee(Money.of(new BigDecimal("500.00")));
+        repayment.setTotal(Money.of(new BigDecimal("10000.00")));
+        return repayment;
+    }
+
+    public Transaction transaction(Account account, BigDecimal amount, LocalDateTime trxDate) {
+        Transaction transaction = new Transaction();
+        transaction.setAccount(account);
+        transaction.setAmount(Money.of(amount));
+        transaction.setTrxDate(trxDate);
+        transaction.setTrxNo(String.valueOf(System.nanoTime()));
+        transaction.setDescription("Deposit");
+        return entityManager.persist(transaction);
+    }
+
+    private Account account(Customer customer, AccountType type, BigDecimal balance) {
+        Account account = new Account();
+        account.setCustomer(customer);
+        account.setAccountType(type);
+        account.setAccountStatus(AccountStatus.ACTIVE);
+        account.setBalance(Money.of(balance));
+        account.setAccountNumber(String.valueOf(ACCOUNT_NUMBERS.getAndIncrement()));
+        return account;
+    }
+}
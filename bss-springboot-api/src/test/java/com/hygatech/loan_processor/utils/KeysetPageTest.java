@@ -0,0 +1,78 @@
+package com.hygatech.loan_processor.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetPageTest {
+
+    @Test
+    void limitDefaultsAndIsClamped() {
+        assertThat(KeysetPage.limit(null)).isEqualTo(KeysetPage.DEFAULT_LIMIT);
+        assertThat(KeysetPage.limit(0)).isEqualTo(1);
+        assertThat(KeysetPage.limit(-10)).isEqualTo(1);
+        assertThat(KeysetPage.limit(20)).isEqualTo(20);
+        assertThat(KeysetPage.limit(100_000)).isEqualTo(KeysetPage.MAX_LIMIT);
+    }
+
+    @Test
+    void firstPageStartsAfterIdZero() {
+        assertThat(KeysetPage.afterId(null)).isZero();
+        assertThat(KeysetPage.afterId(" ")).isZero();
+    }
+
+    @Test
+    void fullPageCarriesACursorToItsLastId() {
+        KeysetPage<Long> page = KeysetPage.of(ids(1, 11), 10, Function.identity(), Function.identity());
+
+        assertThat(page.items()).containsExactlyElementsOf(ids(1, 10));
+        assertThat(KeysetPage.afterId(page.nextCursor())).isEqualTo(10);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        assertThat(KeysetPage.of(ids(1, 10), 10, Function.identity(), Function.identity()).nextCursor()).isNull();
+        assertThat(KeysetPage.of(List.<Long>of(), 10, Function.identity(), Function.identity()).nextCursor()).isNull();
+    }
+
+    @Test
+    void itemsAreMapped() {
+        KeysetPage<String> page = KeysetPage.of(ids(1, 3), 2, Function.identity(), id -> "row " + id);
+
+        assertThat(page.items()).containsExactly("row 1", "row 2");
+    }
+
+    @Test
+    void garbledCursorIsRejected() {
+        assertThatThrownBy(() -> KeysetPage.afterId("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid page cursor");
+        // Valid base64 that does not decode to a number
+        assertThatThrownBy(() -> KeysetPage.afterId("YWJj"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid page cursor");
+    }
+
+    @Test
+    void responseExposesTheCursorHeaderOnlyWhenThereIsAnotherPage() {
+        ResponseEntity<Stream<Long>> more = KeysetPage.of(ids(1, 3), 2, Function.identity(), Function.identity()).toResponse();
+        ResponseEntity<Stream<Long>> last = KeysetPage.of(ids(1, 2), 2, Function.identity(), Function.identity()).toResponse();
+
+        assertThat(more.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(KeysetPage.afterId(more.getHeaders().getFirst(KeysetPage.NEXT_CURSOR_HEADER))).isEqualTo(2);
+        assertThat(more.getBody()).containsExactly(1L, 2L);
+        assertThat(last.getHeaders().containsKey(KeysetPage.NEXT_CURSOR_HEADER)).isFalse();
+    }
+
+    private static List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+}
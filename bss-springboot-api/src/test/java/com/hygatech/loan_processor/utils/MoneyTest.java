@@ -0,0 +1,76 @@
+package com.hygatech.loan_processor.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void nullIsZero() {
+        assertThat(Money.of(null)).isSameAs(Money.ZERO);
+        assertThat(Money.of(null).isZero()).isTrue();
+    }
+
+    @Test
+    void extraDecimalPlacesRoundHalfUpLikeTheColumn() {
+        assertThat(Money.of(new BigDecimal("1.005")).kobo()).isEqualTo(101);
+        assertThat(Money.of(new BigDecimal("1.004")).kobo()).isEqualTo(100);
+        assertThat(Money.of(new BigDecimal("-1.005")).kobo()).isEqualTo(-101);
+    }
+
+    @Test
+    void equalityIgnoresTheScaleOfTheSource() {
+        assertThat(Money.of(new BigDecimal("10"))).isEqualTo(Money.of(new BigDecimal("10.00")))
+                .hasSameHashCodeAs(Money.ofKobo(1000));
+        assertThat(Money.of(new BigDecimal("10")).toBigDecimal()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(Money.ofKobo(-5)).hasToString("-0.05");
+    }
+
+    @Test
+    void sumsAreExact() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < 10; i++) {
+            total = total.plus(Money.of(new BigDecimal("0.10")));
+        }
+        assertThat(total).isEqualTo(Money.of(BigDecimal.ONE));
+        assertThat(total.minus(Money.of(new BigDecimal("1.50"))).kobo()).isEqualTo(-50);
+        assertThat(Money.ofKobo(250).times(4)).isEqualTo(Money.ofKobo(1000));
+        assertThat(Money.ofKobo(250).negate().isNegative()).isTrue();
+    }
+
+    @Test
+    void ratesUseTheNamedRounding() {
+        Money principal = Money.of(new BigDecimal("333.33"));
+        BigDecimal rate = new BigDecimal("0.025");
+
+        // 333.33 * 0.025 = 8.33325
+        assertThat(principal.times(rate, RoundingMode.HALF_UP)).isEqualTo(Money.of(new BigDecimal("8.33")));
+        assertThat(principal.times(rate, RoundingMode.CEILING)).isEqualTo(Money.of(new BigDecimal("8.34")));
+    }
+
+    @Test
+    void minMaxAndCompare() {
+        Money small = Money.ofKobo(100);
+        Money large = Money.ofKobo(200);
+
+        assertThat(small.min(large)).isSameAs(small);
+        assertThat(small.max(large)).isSameAs(large);
+        assertThat(small).isLessThan(large);
+        assertThat(large.isPositive()).isTrue();
+    }
+
+    @Test
+    void overflowFailsInsteadOfWrapping() {
+        assertThatThrownBy(() -> Money.ofKobo(Long.MAX_VALUE).plus(Money.ofKobo(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofKobo(Long.MIN_VALUE).negate())
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e30")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
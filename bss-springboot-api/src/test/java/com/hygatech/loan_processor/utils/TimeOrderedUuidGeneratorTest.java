@@ -0,0 +1,95 @@
+package com.hygatech.loan_processor.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void isAVersion7UuidCarryingTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedUuidGenerator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        // Can run ahead of the wall clock only by borrowed milliseconds
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    void idsSortInIssueOrderAsBinary16() {
+        List<byte[]> issued = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            issued.add(bytes(TimeOrderedUuidGenerator.next()));
+        }
+        // BINARY(16) compares bytes unsigned, which is what keeps inserts at the right edge of the index
+        for (int i = 1; i < issued.size(); i++) {
+            assertThat(Arrays.compareUnsigned(issued.get(i - 1), issued.get(i))).isNegative();
+        }
+    }
+
+    @Test
+    void clockSteppingBackDoesNotGoBackwards() {
+        long now = System.currentTimeMillis();
+        long first = TimeOrderedUuidGenerator.nextState(now);
+        long afterStepBack = TimeOrderedUuidGenerator.nextState(now - 60_000);
+
+        assertThat(afterStepBack).isEqualTo(first + 1);
+    }
+
+    @Test
+    void counterOverflowBorrowsTheNextMillisecond() {
+        long now = System.currentTimeMillis();
+        long previous = TimeOrderedUuidGenerator.nextState(now);
+        for (int i = 0; i < 5_000; i++) {
+            long state = TimeOrderedUuidGenerator.nextState(now);
+            assertThat(state).isGreaterThan(previous);
+            previous = state;
+        }
+        // 4096 counter values per millisecond, so 5000 more ids in one millisecond spill into the next
+        assertThat(previous >>> 12).isGreaterThan(now);
+    }
+
+    @Test
+    void concurrentCallersNeverCollide() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                runs.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        issued.add(TimeOrderedUuidGenerator.next());
+                    }
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(issued).hasSize(threads * perThread);
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,110 @@
+package com.hygatech.loan_processor.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionNumberGeneratorTest {
+    private static final long NOW = 1735689600000L; // 2025-01-01 UTC
+
+    @Test
+    void concurrentCallersNeverGetTheSameNumber() throws Exception {
+        TransactionNumberGenerator generator = new TransactionNumberGenerator(7);
+        int threads = 64;
+        int perThread = 10_000;
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> runs = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                runs.add(executor.submit(() -> {
+                    start.await();
+                    long previous = -1;
+                    for (int i = 0; i < perThread; i++) {
+                        long id = generator.nextId();
+                        // Each caller sees strictly increasing numbers
+                        if (id <= previous) {
+                            return false;
+                        }
+                        previous = id;
+                        issued.add(String.valueOf(id));
+                    }
+                    return true;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> run : runs) {
+                assertThat(run.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(issued).hasSize(threads * perThread);
+    }
+
+    @Test
+    void clockSteppingBackKeepsNumbersIncreasing() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TransactionNumberGenerator generator = new TransactionNumberGenerator(1, clock::get);
+
+        long beforeStep = generator.nextId();
+        clock.set(NOW - 5_000);
+        long afterStep = generator.nextId();
+        long next = generator.nextId();
+
+        assertThat(afterStep).isGreaterThan(beforeStep);
+        assertThat(next).isGreaterThan(afterStep);
+
+        // Once the clock passes the borrowed time again, numbers follow the clock
+        clock.set(NOW + 1_000);
+        assertThat(generator.nextId()).isGreaterThan(next);
+    }
+
+    @Test
+    void exhaustedSequenceBorrowsTheNextMillisecond() {
+        TransactionNumberGenerator generator = new TransactionNumberGenerator(1, () -> NOW);
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void nodesSharingAClockDoNotCollide() {
+        TransactionNumberGenerator first = new TransactionNumberGenerator(1, () -> NOW);
+        TransactionNumberGenerator second = new TransactionNumberGenerator(2, () -> NOW);
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 5_000; i++) {
+            issued.add(first.nextId());
+            issued.add(second.nextId());
+        }
+        assertThat(issued).hasSize(10_000);
+    }
+
+    @Test
+    void rendersNineteenDigits() {
+        assertThat(new TransactionNumberGenerator(0, () -> NOW).next()).hasSize(19).containsOnlyDigits();
+    }
+
+    @Test
+    void rejectsNodeIdsOutsideTenBits() {
+        assertThatThrownBy(() -> new TransactionNumberGenerator(TransactionNumberGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TransactionNumberGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}